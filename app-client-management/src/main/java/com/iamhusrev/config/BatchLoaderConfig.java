@@ -0,0 +1,39 @@
+package com.iamhusrev.config;
+
+import com.iamhusrev.dto.BatchLookupDTO;
+import com.iamhusrev.dto.UserDTO;
+import com.iamhusrev.entity.ResponseWrapper;
+import com.iamhusrev.service.BatchLoader;
+import com.iamhusrev.service.UserClientService;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Request-scoped loader over the user multi-get endpoint, so every user lookup made while serving one
+ * request shares a single remote call. UserDirectory uses it for users that are not in its local copy.
+ */
+@Configuration
+public class BatchLoaderConfig {
+
+    @Bean
+    @RequestScope
+    public BatchLoader<String, UserDTO> userBatchLoader(UserClientService userClientService) {
+        return new BatchLoader<>(userNames -> index(
+                userClientService.getUsersBatch(BatchLookupDTO.ofKeys(userNames)), UserDTO::getUserName),
+                BatchLookupDTO.MAX_SIZE);
+    }
+
+    // A fallback response carries no data, which leaves every key of the batch unresolved.
+    private static <K, V> Map<K, V> index(ResponseWrapper<List<V>> response, Function<V, K> keyOf) {
+        if (response == null || response.getData() == null) {
+            return Map.of();
+        }
+        return response.getData().stream().collect(Collectors.toMap(keyOf, Function.identity(), (a, b) -> a));
+    }
+}
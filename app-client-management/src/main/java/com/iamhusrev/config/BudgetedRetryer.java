@@ -0,0 +1,70 @@
+package com.iamhusrev.config;
+
+import com.iamhusrev.security.SecurityConstants;
+import com.iamhusrev.security.TenantContext;
+import com.iamhusrev.util.RetryBudgetRegistry;
+import feign.Request;
+import feign.RetryableException;
+import feign.Retryer;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Feign retryer that pays every retry from the calling client's retry budget. Only idempotent
+ * requests (or ones carrying an Idempotency-Key) are retried, with a fixed backoff between attempts,
+ * and never past the request deadline. The backoff sleeps on the calling thread.
+ */
+public class BudgetedRetryer implements Retryer {
+
+    private static final Set<Request.HttpMethod> IDEMPOTENT_METHODS =
+            Set.of(Request.HttpMethod.GET, Request.HttpMethod.HEAD, Request.HttpMethod.OPTIONS);
+
+    private final RetryBudgetRegistry budgets;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private int attempt = 1;
+
+    public BudgetedRetryer(RetryBudgetRegistry budgets, int maxAttempts, long backoffMs) {
+        this.budgets = budgets;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+    }
+
+    @Override
+    public void continueOrPropagate(RetryableException e) {
+        Request request = e.request();
+        if (attempt++ >= maxAttempts || request == null || !isRetryable(request) || !withinDeadline()
+                || !budgets.tryRetry(clientName(request))) {
+            throw e;
+        }
+
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    @Override
+    public Retryer clone() {
+        return new BudgetedRetryer(budgets, maxAttempts, backoffMs);
+    }
+
+    private static String clientName(Request request) {
+        return request.requestTemplate() == null || request.requestTemplate().feignTarget() == null
+                ? "unknown" : request.requestTemplate().feignTarget().name();
+    }
+
+    // A retry that cannot finish before the request deadline only adds load.
+    private boolean withinDeadline() {
+        Long remaining = TenantContext.remainingMillis();
+        return remaining == null || remaining > backoffMs;
+    }
+
+    private static boolean isRetryable(Request request) {
+        Collection<String> idempotencyKey = request.headers().get(SecurityConstants.HEADER_IDEMPOTENCY_KEY);
+        return IDEMPOTENT_METHODS.contains(request.httpMethod()) || (idempotencyKey != null && !idempotencyKey.isEmpty());
+    }
+}
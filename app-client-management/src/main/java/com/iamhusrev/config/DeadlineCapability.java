@@ -0,0 +1,39 @@
+package com.iamhusrev.config;
+
+import com.iamhusrev.security.TenantContext;
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shrinks each Feign call's connect/read timeouts to the time left until the request deadline,
+ * and fails fast without a network call once it has passed.
+ */
+@Component
+public class DeadlineCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Long remaining = TenantContext.remainingMillis();
+            if (remaining == null) {
+                return client.execute(request, options);
+            }
+            if (remaining <= 0) {
+                throw new IOException("Request deadline exceeded before calling " + request.url());
+            }
+            return client.execute(request, withinDeadline(options, remaining));
+        };
+    }
+
+    private static Request.Options withinDeadline(Request.Options options, long remaining) {
+        return new Request.Options(
+                Math.min(options.connectTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                Math.min(options.readTimeoutMillis(), remaining), TimeUnit.MILLISECONDS,
+                options.isFollowRedirects());
+    }
+}
@@ -0,0 +1,46 @@
+package com.iamhusrev.config;
+
+import com.iamhusrev.util.RetryBudgetRegistry;
+import feign.Capability;
+import feign.Retryer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign retries are off by default ({@code feign.retry-budget.max-attempts: 1}): the gateway already
+ * retries the incoming request, and retrying again underneath it multiplies the attempts a struggling
+ * service receives. With more attempts, {@link BudgetedRetryer} retries idempotent calls paid from a
+ * per-client budget.
+ */
+@Configuration
+public class FeignRetryConfig {
+
+    @Value("${feign.retry-budget.ratio:0.2}")
+    private double ratio;
+
+    @Value("${feign.retry-budget.capacity:20}")
+    private int capacity;
+
+    @Value("${feign.retry-budget.max-attempts:1}")
+    private int maxAttempts;
+
+    @Value("${feign.retry-budget.backoff-ms:100}")
+    private long backoffMs;
+
+    @Bean
+    public RetryBudgetRegistry feignRetryBudgets(MeterRegistry meterRegistry) {
+        return new RetryBudgetRegistry(meterRegistry, "feign.retry", "client", ratio, capacity);
+    }
+
+    @Bean
+    public Capability feignRetryBudgetCapability(RetryBudgetRegistry feignRetryBudgets) {
+        return new RetryBudgetCapability(feignRetryBudgets);
+    }
+
+    @Bean
+    public Retryer feignRetryer(RetryBudgetRegistry feignRetryBudgets) {
+        return maxAttempts > 1 ? new BudgetedRetryer(feignRetryBudgets, maxAttempts, backoffMs) : Retryer.NEVER_RETRY;
+    }
+}
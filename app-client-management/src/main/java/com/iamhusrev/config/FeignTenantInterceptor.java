@@ -18,5 +18,9 @@ public class FeignTenantInterceptor implements RequestInterceptor {
             template.header(SecurityConstants.HEADER_USER_NAME, info.getUserName());
             template.header(SecurityConstants.HEADER_USER_ROLE, info.getRole());
         }
+        Long remaining = TenantContext.remainingMillis();
+        if (remaining != null) {
+            template.header(SecurityConstants.HEADER_REQUEST_TIMEOUT, String.valueOf(Math.max(0, remaining)));
+        }
     }
 }
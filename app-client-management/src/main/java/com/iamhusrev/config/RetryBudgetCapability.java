@@ -0,0 +1,33 @@
+package com.iamhusrev.config;
+
+import com.iamhusrev.util.RetryBudgetRegistry;
+import feign.Capability;
+import feign.InvocationHandlerFactory;
+
+import java.lang.reflect.InvocationHandler;
+
+/**
+ * Earns retry budget once per Feign client method call. Request interceptors would also run for every
+ * retry, letting retries pay for themselves. Public because Feign invokes {@code enrich} reflectively.
+ */
+public class RetryBudgetCapability implements Capability {
+
+    private final RetryBudgetRegistry budgets;
+
+    public RetryBudgetCapability(RetryBudgetRegistry budgets) {
+        this.budgets = budgets;
+    }
+
+    @Override
+    public InvocationHandlerFactory enrich(InvocationHandlerFactory factory) {
+        return (target, dispatch) -> {
+            InvocationHandler handler = factory.create(target, dispatch);
+            return (proxy, method, args) -> {
+                if (method.getDeclaringClass() != Object.class) {
+                    budgets.recordRequest(target.name());
+                }
+                return handler.invoke(proxy, method, args);
+            };
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.iamhusrev.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Collects the keys a request needs and resolves them with as few multi-get calls as possible.
+ * Callers {@link #require} everything they will need up front and then {@link #get} values one by one;
+ * the first {@code get} that misses loads all pending keys in one call (split into chunks of at most
+ * {@code maxBatchSize}). Results, including misses, are remembered for the rest of the request.
+ * <p>
+ * Not thread-safe: meant to be request scoped (see BatchLoaderConfig).
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> fetcher;
+    private final int maxBatchSize;
+    private final Set<K> pending = new LinkedHashSet<>();
+    private final Map<K, V> loaded = new HashMap<>();
+    private final Set<K> missing = new LinkedHashSet<>();
+
+    public BatchLoader(Function<Collection<K>, Map<K, V>> fetcher, int maxBatchSize) {
+        this.fetcher = fetcher;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public BatchLoader<K, V> require(Collection<K> keys) {
+        for (K key : keys) {
+            if (key != null && !loaded.containsKey(key) && !missing.contains(key)) {
+                pending.add(key);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns the value for the key, or null when the remote service does not know it (or is unavailable).
+     */
+    public V get(K key) {
+        if (!loaded.containsKey(key) && !missing.contains(key)) {
+            pending.add(key);
+            flush();
+        }
+        return loaded.get(key);
+    }
+
+    private void flush() {
+        List<K> keys = List.copyOf(pending);
+        pending.clear();
+        for (int from = 0; from < keys.size(); from += maxBatchSize) {
+            List<K> chunk = keys.subList(from, Math.min(keys.size(), from + maxBatchSize));
+            Map<K, V> values = fetcher.apply(chunk);
+            for (K key : chunk) {
+                V value = values.get(key);
+                if (value != null) {
+                    loaded.put(key, value);
+                } else {
+                    missing.add(key);
+                }
+            }
+        }
+    }
+}
@@ -1,45 +1,53 @@
 package com.iamhusrev.service;
 
+import com.iamhusrev.dto.BatchLookupDTO;
 import com.iamhusrev.dto.ProjectDTO;
 import com.iamhusrev.entity.ResponseWrapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class ProjectClientFallback implements ProjectClientService {
 
     @Override
-    public ResponseWrapper getProjects() {
-        return new ResponseWrapper("Project service is currently unavailable", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<List<ProjectDTO>> getProjects() {
+        return new ResponseWrapper<>("Project service is currently unavailable", null, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Override
+    public ResponseWrapper<ProjectDTO> getProjectByCode(String code) {
+        return new ResponseWrapper<>("Project service unavailable, cannot fetch project code: " + code, null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper getProjectByCode(String code) {
-        return new ResponseWrapper("Project service unavailable, cannot fetch project code: " + code, null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<List<ProjectDTO>> getProjectsBatch(BatchLookupDTO lookup) {
+        return new ResponseWrapper<>("Project service unavailable, cannot fetch projects", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper createProject(ProjectDTO project) {
-        return new ResponseWrapper("Cannot create project right now, service down", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<Void> createProject(ProjectDTO project) {
+        return new ResponseWrapper<>("Cannot create project right now, service down", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper updateProject(ProjectDTO project) {
-        return new ResponseWrapper("Cannot update project right now", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<ProjectDTO> updateProject(ProjectDTO project) {
+        return new ResponseWrapper<>("Cannot update project right now", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper deleteProject(String projectCode) {
-        return new ResponseWrapper("Cannot delete project right now", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<Void> deleteProject(String projectCode) {
+        return new ResponseWrapper<>("Cannot delete project right now", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper readAllProjectDetails(String userName) {
-        return new ResponseWrapper("Cannot fetch project details for user: " + userName, null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<List<ProjectDTO>> readAllProjectDetails(String userName) {
+        return new ResponseWrapper<>("Cannot fetch project details for user: " + userName, null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper managerCompleteProject(String projectCode) {
-        return new ResponseWrapper("Cannot complete project action right now", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<Void> managerCompleteProject(String projectCode) {
+        return new ResponseWrapper<>("Cannot complete project action right now", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 }
\ No newline at end of file
@@ -1,31 +1,37 @@
 package com.iamhusrev.service;
 
+import com.iamhusrev.dto.BatchLookupDTO;
 import com.iamhusrev.dto.ProjectDTO;
 import com.iamhusrev.entity.ResponseWrapper;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @FeignClient(name = "project-service", path = "/api/project", fallback = ProjectClientFallback.class)
 public interface ProjectClientService {
 
     @GetMapping
-    ResponseWrapper getProjects();
+    ResponseWrapper<List<ProjectDTO>> getProjects();
 
     @GetMapping("/{code}")
-    ResponseWrapper getProjectByCode(@PathVariable("code") String code);
+    ResponseWrapper<ProjectDTO> getProjectByCode(@PathVariable("code") String code);
+
+    @PostMapping("/batch")
+    ResponseWrapper<List<ProjectDTO>> getProjectsBatch(@RequestBody BatchLookupDTO lookup);
 
     @PostMapping
-    ResponseWrapper createProject(@RequestBody ProjectDTO project);
+    ResponseWrapper<Void> createProject(@RequestBody ProjectDTO project);
 
     @PutMapping
-    ResponseWrapper updateProject(@RequestBody ProjectDTO project);
+    ResponseWrapper<ProjectDTO> updateProject(@RequestBody ProjectDTO project);
 
     @DeleteMapping("/{projectCode}")
-    ResponseWrapper deleteProject(@PathVariable("projectCode") String projectCode);
+    ResponseWrapper<Void> deleteProject(@PathVariable("projectCode") String projectCode);
 
     @GetMapping("/details/{userName}")
-    ResponseWrapper readAllProjectDetails(@PathVariable("userName") String userName);
+    ResponseWrapper<List<ProjectDTO>> readAllProjectDetails(@PathVariable("userName") String userName);
 
     @PutMapping("/manager/complete/{projectCode}")
-    ResponseWrapper managerCompleteProject(@PathVariable("projectCode") String projectCode);
+    ResponseWrapper<Void> managerCompleteProject(@PathVariable("projectCode") String projectCode);
 }
\ No newline at end of file
@@ -1,50 +1,58 @@
 package com.iamhusrev.service;
 
+import com.iamhusrev.dto.BatchLookupDTO;
 import com.iamhusrev.dto.TaskDTO;
 import com.iamhusrev.entity.ResponseWrapper;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class TaskClientFallback implements TaskClientService {
 
     @Override
-    public ResponseWrapper getTasks() {
-        return new ResponseWrapper("Task service is currently unavailable", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<List<TaskDTO>> getTasks() {
+        return new ResponseWrapper<>("Task service is currently unavailable", null, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @Override
+    public ResponseWrapper<TaskDTO> getTaskById(Long taskId) {
+        return new ResponseWrapper<>("Task service unavailable, cannot fetch task ID: " + taskId, null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper getTaskById(Long taskId) {
-        return new ResponseWrapper("Task service unavailable, cannot fetch task ID: " + taskId, null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<List<TaskDTO>> getTasksBatch(BatchLookupDTO lookup) {
+        return new ResponseWrapper<>("Task service unavailable, cannot fetch tasks", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper createTask(TaskDTO taskDTO) {
-        return new ResponseWrapper("Cannot create task right now, service down", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<Void> createTask(TaskDTO taskDTO) {
+        return new ResponseWrapper<>("Cannot create task right now, service down", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper deleteTask(Long taskId) {
-        return new ResponseWrapper("Cannot delete task right now", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<Void> deleteTask(Long taskId) {
+        return new ResponseWrapper<>("Cannot delete task right now", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper updateTask(TaskDTO taskDTO) {
-        return new ResponseWrapper("Cannot update task right now", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<Void> updateTask(TaskDTO taskDTO) {
+        return new ResponseWrapper<>("Cannot update task right now", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper employeePendingTasks(String userName) {
-        return new ResponseWrapper("Cannot fetch pending tasks, service unavailable", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<List<TaskDTO>> employeePendingTasks(String userName) {
+        return new ResponseWrapper<>("Cannot fetch pending tasks, service unavailable", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper employeeUpdateTasks(TaskDTO task) {
-        return new ResponseWrapper("Cannot update task status right now", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<Void> employeeUpdateTasks(TaskDTO task) {
+        return new ResponseWrapper<>("Cannot update task status right now", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Override
-    public ResponseWrapper employeeArchivedTasks(String userName) {
-        return new ResponseWrapper("Cannot fetch archived tasks, service unavailable", null, HttpStatus.SERVICE_UNAVAILABLE);
+    public ResponseWrapper<List<TaskDTO>> employeeArchivedTasks(String userName) {
+        return new ResponseWrapper<>("Cannot fetch archived tasks, service unavailable", null, HttpStatus.SERVICE_UNAVAILABLE);
     }
 }
\ No newline at end of file
@@ -1,34 +1,40 @@
 package com.iamhusrev.service;
 
+import com.iamhusrev.dto.BatchLookupDTO;
 import com.iamhusrev.dto.TaskDTO;
 import com.iamhusrev.entity.ResponseWrapper;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @FeignClient(name = "task-service", path = "/api/task", fallback = TaskClientFallback.class)
 public interface TaskClientService {
 
     @GetMapping
-    ResponseWrapper getTasks();
+    ResponseWrapper<List<TaskDTO>> getTasks();
 
     @GetMapping("/{taskId}")
-    ResponseWrapper getTaskById(@PathVariable("taskId") Long taskId);
+    ResponseWrapper<TaskDTO> getTaskById(@PathVariable("taskId") Long taskId);
+
+    @PostMapping("/batch/lookup")
+    ResponseWrapper<List<TaskDTO>> getTasksBatch(@RequestBody BatchLookupDTO lookup);
 
     @PostMapping
-    ResponseWrapper createTask(@RequestBody TaskDTO taskDTO);
+    ResponseWrapper<Void> createTask(@RequestBody TaskDTO taskDTO);
 
     @DeleteMapping("/{taskId}")
-    ResponseWrapper deleteTask(@PathVariable("taskId") Long taskId);
+    ResponseWrapper<Void> deleteTask(@PathVariable("taskId") Long taskId);
 
     @PutMapping
-    ResponseWrapper updateTask(@RequestBody TaskDTO taskDTO);
+    ResponseWrapper<Void> updateTask(@RequestBody TaskDTO taskDTO);
 
     @GetMapping("/employee/pending-tasks/{userName}")
-    ResponseWrapper employeePendingTasks(@PathVariable("userName") String userName);
+    ResponseWrapper<List<TaskDTO>> employeePendingTasks(@PathVariable("userName") String userName);
 
     @PutMapping("/employee/update/")
-    ResponseWrapper employeeUpdateTasks(@RequestBody TaskDTO task);
+    ResponseWrapper<Void> employeeUpdateTasks(@RequestBody TaskDTO task);
 
     @GetMapping("/employee/archive/{userName}")
-    ResponseWrapper employeeArchivedTasks(@PathVariable("userName") String userName);
+    ResponseWrapper<List<TaskDTO>> employeeArchivedTasks(@PathVariable("userName") String userName);
 }
\ No newline at end of file
@@ -1,25 +1,35 @@
 package com.iamhusrev.service;
 
+import com.iamhusrev.dto.BatchLookupDTO;
+import com.iamhusrev.dto.CursorPageDTO;
 import com.iamhusrev.dto.UserDTO;
 import com.iamhusrev.entity.ResponseWrapper;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @FeignClient(name = "user-service", path = "/api/user", fallback = UserClientFallback.class)
 public interface UserClientService {
 
     @GetMapping
-    ResponseWrapper getUsers();
+    ResponseWrapper<List<UserDTO>> getUsers();
+
+    @GetMapping(params = "limit")
+    ResponseWrapper<CursorPageDTO<UserDTO>> getUsersPage(@RequestParam("limit") Integer limit, @RequestParam(value = "after", required = false) Long after);
 
     @GetMapping("/{userName}")
-    ResponseWrapper getUserByUserName(@PathVariable String userName);
+    ResponseWrapper<UserDTO> getUserByUserName(@PathVariable String userName);
+
+    @PostMapping("/batch")
+    ResponseWrapper<List<UserDTO>> getUsersBatch(@RequestBody BatchLookupDTO lookup);
 
     @PostMapping
-    ResponseWrapper createUser(@RequestBody UserDTO user);
+    ResponseWrapper<Void> createUser(@RequestBody UserDTO user);
 
     @PutMapping
-    ResponseWrapper updateUser(@RequestBody UserDTO user);
+    ResponseWrapper<UserDTO> updateUser(@RequestBody UserDTO user);
 
     @DeleteMapping("/{userName}")
-    ResponseWrapper deleteUser(@PathVariable String userName);
+    ResponseWrapper<Void> deleteUser(@PathVariable String userName);
 }
\ No newline at end of file
@@ -0,0 +1,267 @@
+package com.iamhusrev.service;
+
+import com.iamhusrev.dto.CursorPageDTO;
+import com.iamhusrev.dto.UserDTO;
+import com.iamhusrev.entity.ResponseWrapper;
+import com.iamhusrev.event.UserEvent;
+import com.iamhusrev.security.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local replica of user-service's users, partitioned by organization. A partition is filled from a
+ * paged snapshot on the first lookup for its organization, then kept current by user.* events
+ * (see UserDirectoryListener). A background thread re-snapshots it after {@code user-directory.max-staleness}
+ * in case events were missed, while lookups keep reading the current entries; only the first fill blocks
+ * a request. Unknown users fall through to user-service via the request's BatchLoader; {@link #findAll}
+ * fetches all of them in one call.
+ * <p>
+ * With {@code user-directory.enabled=false} every lookup goes to user-service.
+ */
+@Slf4j
+@Component
+public class UserDirectory {
+
+    // How often the refresher looks for stale partitions, and how soon a failed snapshot is retried.
+    private static final long SNAPSHOT_RETRY_MILLIS = 30_000;
+
+    private final UserClientService userClientService;
+    private final BatchLoader<String, UserDTO> userBatchLoader;
+    private final boolean enabled;
+    private final long maxStalenessMillis;
+    private final Map<Long, Partition> partitions = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final ScheduledExecutorService refresher;
+
+    public UserDirectory(UserClientService userClientService, BatchLoader<String, UserDTO> userBatchLoader,
+                         MeterRegistry meterRegistry,
+                         @Value("${user-directory.enabled:false}") boolean enabled,
+                         @Value("${user-directory.max-staleness:10m}") Duration maxStaleness) {
+        this.userClientService = userClientService;
+        this.userBatchLoader = userBatchLoader;
+        this.enabled = enabled;
+        this.maxStalenessMillis = maxStaleness.toMillis();
+        this.hits = meterRegistry.counter("user.directory.lookups", "result", "hit");
+        this.misses = meterRegistry.counter("user.directory.lookups", "result", "miss");
+        Gauge.builder("user.directory.size", partitions,
+                        p -> p.values().stream().mapToInt(partition -> partition.users.size()).sum())
+                .register(meterRegistry);
+        this.refresher = enabled ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-directory-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+        if (refresher != null) {
+            refresher.scheduleWithFixedDelay(this::refreshStale, SNAPSHOT_RETRY_MILLIS, SNAPSHOT_RETRY_MILLIS,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the user with this user name in the caller's organization, or null if there is none.
+     */
+    public UserDTO find(String userName) {
+        Partition partition = userName == null ? null : partition();
+        if (partition == null) {
+            return userBatchLoader.get(userName);
+        }
+
+        UserDTO user = partition.users.get(userName);
+        if (user != null) {
+            hits.increment();
+            return user;
+        }
+        misses.increment();
+        user = userBatchLoader.get(userName);
+        if (user != null) {
+            partition.users.putIfAbsent(userName, user);
+        }
+        return user;
+    }
+
+    /**
+     * Returns the known users among these user names, keyed by user name. The ones missing from the
+     * local copy are fetched from user-service together.
+     */
+    public Map<String, UserDTO> findAll(Collection<String> userNames) {
+        Partition partition = partition();
+        userBatchLoader.require(userNames.stream()
+                .filter(userName -> partition == null || !partition.users.containsKey(userName))
+                .toList());
+
+        Map<String, UserDTO> users = new HashMap<>();
+        for (String userName : userNames) {
+            UserDTO user = userName == null ? null : find(userName);
+            if (user != null) {
+                users.put(userName, user);
+            }
+        }
+        return users;
+    }
+
+    // The caller's organization's partition, filled on first use; null when lookups go straight to user-service.
+    private Partition partition() {
+        Long organizationId = TenantContext.getOrganizationId();
+        if (!enabled || organizationId == null) {
+            return null;
+        }
+        Partition partition = partitions.computeIfAbsent(organizationId, id -> new Partition());
+        loadFirst(organizationId, partition);
+        return partition;
+    }
+
+    void apply(UserEvent event) {
+        if (event.getUserName() == null) {
+            return;
+        }
+        if ("user.deleted".equals(event.getEventType())) {
+            if (event.getOrganizationId() == null) {
+                partitions.values().forEach(partition -> partition.remove(event.getUserName()));
+            } else {
+                Partition partition = partitions.get(event.getOrganizationId());
+                if (partition != null) {
+                    partition.remove(event.getUserName());
+                }
+            }
+            return;
+        }
+
+        // Organizations nobody has looked up yet get a fresh snapshot on first use instead.
+        Partition partition = event.getOrganizationId() == null ? null : partitions.get(event.getOrganizationId());
+        if (partition != null) {
+            partition.upsert(event);
+        }
+    }
+
+    // The first lookup for an organization waits for its snapshot; its caller's identity is kept for the refreshes.
+    private void loadFirst(Long organizationId, Partition partition) {
+        if (partition.tenant != null) {
+            return;
+        }
+        synchronized (partition) {
+            if (partition.tenant != null) {
+                return;
+            }
+            TenantContext.TenantInfo caller = TenantContext.get();
+            refresh(organizationId, partition);
+            partition.tenant = new TenantContext.TenantInfo(caller.getUserId(), caller.getUserName(),
+                    caller.getOrganizationId(), caller.getRole());
+        }
+    }
+
+    // Runs on the refresher thread, which carries no request: the snapshot is taken as the partition's first caller.
+    private void refreshStale() {
+        long now = System.currentTimeMillis();
+        partitions.forEach((organizationId, partition) -> {
+            TenantContext.TenantInfo tenant = partition.tenant;
+            if (tenant == null || now < partition.nextRefreshAt) {
+                return;
+            }
+            TenantContext.set(tenant);
+            try {
+                refresh(organizationId, partition);
+            } finally {
+                TenantContext.clear();
+            }
+        });
+    }
+
+    private void refresh(Long organizationId, Partition partition) {
+        long now = System.currentTimeMillis();
+        synchronized (partition) {
+            partition.touched = ConcurrentHashMap.newKeySet();
+            try {
+                Map<String, UserDTO> snapshot = snapshot();
+                snapshot.forEach((userName, user) -> {
+                    if (!partition.touched.contains(userName)) {
+                        partition.users.put(userName, user);
+                    }
+                });
+                partition.users.keySet().removeIf(userName ->
+                        !snapshot.containsKey(userName) && !partition.touched.contains(userName));
+                partition.nextRefreshAt = now + maxStalenessMillis;
+                log.debug("User directory loaded {} users for organization {}", snapshot.size(), organizationId);
+            } catch (RuntimeException e) {
+                log.warn("User directory snapshot for organization {} failed: {}", organizationId, e.getMessage());
+                partition.nextRefreshAt = now + SNAPSHOT_RETRY_MILLIS;
+            } finally {
+                partition.touched = null;
+            }
+        }
+    }
+
+    // Pages through GET /api/user; user-service scopes it to the caller's organization.
+    private Map<String, UserDTO> snapshot() {
+        Map<String, UserDTO> users = new ConcurrentHashMap<>();
+        Long after = null;
+        do {
+            ResponseWrapper<CursorPageDTO<UserDTO>> response = userClientService.getUsersPage(CursorPageDTO.MAX_LIMIT, after);
+            if (response == null || response.getData() == null) {
+                throw new IllegalStateException(response == null ? "no response" : response.getMessage());
+            }
+            CursorPageDTO<UserDTO> page = response.getData();
+            page.getItems().forEach(user -> users.put(user.getUserName(), user));
+            after = page.getNextCursor();
+        } while (after != null);
+        return users;
+    }
+
+    private static final class Partition {
+
+        private final Map<String, UserDTO> users = new ConcurrentHashMap<>();
+        // Set while a snapshot is loading: names changed by events, which the snapshot must not overwrite.
+        private volatile Set<String> touched;
+        private volatile long nextRefreshAt;
+        // Identity of the first lookup's caller; null until the first snapshot was attempted.
+        private volatile TenantContext.TenantInfo tenant;
+
+        void upsert(UserEvent event) {
+            markTouched(event.getUserName());
+            users.compute(event.getUserName(), (userName, existing) -> UserDTO.builder()
+                    .id(event.getUserId())
+                    .userName(userName)
+                    .firstName(event.getFirstName())
+                    .lastName(event.getLastName())
+                    .enabled(existing == null || existing.isEnabled())
+                    .phone(existing == null ? null : existing.getPhone())
+                    .gender(existing == null ? null : existing.getGender())
+                    .role(existing == null ? null : existing.getRole())
+                    .build());
+        }
+
+        void remove(String userName) {
+            markTouched(userName);
+            users.remove(userName);
+        }
+
+        private void markTouched(String userName) {
+            Set<String> loading = touched;
+            if (loading != null) {
+                loading.add(userName);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.iamhusrev.service;
+
+import com.iamhusrev.event.RabbitMQConfig;
+import com.iamhusrev.event.UserEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feeds user.* events into the UserDirectory. Each service instance binds its own auto-delete queue,
+ * so every replica sees every event.
+ */
+@Component
+@ConditionalOnProperty(prefix = "user-directory", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class UserDirectoryListener {
+
+    private final UserDirectory userDirectory;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(autoDelete = "true", exclusive = "true"),
+            exchange = @Exchange(value = RabbitMQConfig.EXCHANGE_NAME, type = ExchangeTypes.TOPIC),
+            key = "user.#"))
+    public void onUserEvent(UserEvent event) {
+        userDirectory.apply(event);
+    }
+}
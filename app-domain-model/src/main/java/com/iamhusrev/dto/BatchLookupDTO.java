@@ -0,0 +1,45 @@
+package com.iamhusrev.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Body of the multi-get endpoints: ids and/or natural keys (user names, project codes).
+ * Unknown entries are skipped, so the response may hold fewer items than requested.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class BatchLookupDTO {
+
+    public static final int MAX_SIZE = 500;
+
+    @Size(max = MAX_SIZE, message = "A lookup can contain at most " + MAX_SIZE + " ids")
+    private List<Long> ids;
+
+    @Size(max = MAX_SIZE, message = "A lookup can contain at most " + MAX_SIZE + " keys")
+    private List<String> keys;
+
+    public static BatchLookupDTO ofIds(Collection<Long> ids) {
+        return new BatchLookupDTO(List.copyOf(ids), null);
+    }
+
+    public static BatchLookupDTO ofKeys(Collection<String> keys) {
+        return new BatchLookupDTO(null, List.copyOf(keys));
+    }
+
+    public boolean hasIds() {
+        return ids != null && !ids.isEmpty();
+    }
+
+    public boolean hasKeys() {
+        return keys != null && !keys.isEmpty();
+    }
+}
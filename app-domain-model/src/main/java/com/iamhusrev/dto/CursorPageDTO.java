@@ -0,0 +1,51 @@
+package com.iamhusrev.dto;
+
+import lombok.*;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CursorPageDTO<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    // Hard cap for the legacy list endpoints that predate cursor pagination.
+    public static final int UNPAGED_LIMIT = 1000;
+
+    private List<T> items;
+    private Long nextCursor;
+    private int limit;
+
+    public static int resolveLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    public static long resolveCursor(Long after) {
+        return after == null ? 0L : after;
+    }
+
+    public static <T> CursorPageDTO<T> of(List<T> rows, int limit, Function<T, Long> idOf) {
+        return of(rows, limit, idOf, Function.identity());
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row only
+     * signals that another page exists and is never returned.
+     */
+    public static <E, T> CursorPageDTO<T> of(List<E> rows, int limit, Function<E, Long> idOf, Function<E, T> mapper) {
+        boolean hasMore = rows.size() > limit;
+        List<E> pageRows = hasMore ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasMore ? idOf.apply(pageRows.get(pageRows.size() - 1)) : null;
+        List<T> items = pageRows.stream().map(mapper).collect(Collectors.toList());
+        return new CursorPageDTO<>(items, nextCursor, limit);
+    }
+}
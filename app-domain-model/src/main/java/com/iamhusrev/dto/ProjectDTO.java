@@ -44,4 +44,25 @@ public class ProjectDTO {
 
     private int completeTaskCounts;
     private int unfinishedTaskCounts;
+
+    // Flat constructor for JPQL "SELECT new" projections; the manager is reduced to an identity summary.
+    public ProjectDTO(Long id, String projectName, String projectCode, LocalDate startDate, LocalDate endDate,
+                      String projectDetail, Status projectStatus,
+                      Long managerId, String managerUserName, String managerFirstName, String managerLastName) {
+        this.id = id;
+        this.projectName = projectName;
+        this.projectCode = projectCode;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.projectDetail = projectDetail;
+        this.projectStatus = projectStatus;
+        if (managerId != null) {
+            this.assignedManager = UserDTO.builder()
+                    .id(managerId)
+                    .userName(managerUserName)
+                    .firstName(managerFirstName)
+                    .lastName(managerLastName)
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package com.iamhusrev.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class TaskBatchDTO {
+
+    public static final int MAX_SIZE = 500;
+
+    @NotEmpty(message = "At least one task is required")
+    @Size(max = MAX_SIZE, message = "A batch can contain at most " + MAX_SIZE + " tasks")
+    private List<@Valid TaskDTO> tasks;
+}
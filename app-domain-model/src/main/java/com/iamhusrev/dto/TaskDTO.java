@@ -30,4 +30,31 @@ public class TaskDTO {
     private String taskDetail;
     private Status taskStatus;
     private LocalDate assignedDate;
+
+    // Flat constructor for JPQL "SELECT new" projections; builds the nested summaries without loading entities.
+    public TaskDTO(Long id, String taskSubject, String taskDetail, Status taskStatus, LocalDate assignedDate,
+                   Long projectId, String projectCode, String projectName, Status projectStatus,
+                   Long employeeId, String employeeUserName, String employeeFirstName, String employeeLastName) {
+        this.id = id;
+        this.taskSubject = taskSubject;
+        this.taskDetail = taskDetail;
+        this.taskStatus = taskStatus;
+        this.assignedDate = assignedDate;
+        if (projectId != null) {
+            this.project = ProjectDTO.builder()
+                    .id(projectId)
+                    .projectCode(projectCode)
+                    .projectName(projectName)
+                    .projectStatus(projectStatus)
+                    .build();
+        }
+        if (employeeId != null) {
+            this.assignedEmployee = UserDTO.builder()
+                    .id(employeeId)
+                    .userName(employeeUserName)
+                    .firstName(employeeFirstName)
+                    .lastName(employeeLastName)
+                    .build();
+        }
+    }
 }
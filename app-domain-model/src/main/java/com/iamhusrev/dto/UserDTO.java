@@ -43,4 +43,19 @@ public class UserDTO {
 
     @NotNull(message = "Gender is required")
     private Gender gender;
+
+    // Flat constructor for JPQL "SELECT new" projections; never carries the password hash.
+    public UserDTO(Long id, String firstName, String lastName, String userName, Boolean enabled, String phone,
+                   Gender gender, Long roleId, String roleDescription) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.userName = userName;
+        this.enabled = Boolean.TRUE.equals(enabled);
+        this.phone = phone;
+        this.gender = gender;
+        if (roleId != null) {
+            this.role = new RoleDTO(roleId, roleDescription);
+        }
+    }
 }
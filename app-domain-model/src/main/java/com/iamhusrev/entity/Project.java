@@ -13,6 +13,9 @@ import java.time.LocalDate;
 @Table(name = "projects", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"project_code", "organization_id"})
 })
+@NamedEntityGraph(name = Project.GRAPH_DETAILS,
+        attributeNodes = @NamedAttributeNode(value = "assignedManager", subgraph = "user"),
+        subgraphs = @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role")))
 @NoArgsConstructor
 @Getter
 @Setter
@@ -20,6 +23,8 @@ import java.time.LocalDate;
 @JsonIgnoreProperties(value = {"hibernateLazyInitializer"},ignoreUnknown = true)
 public class Project extends BaseEntity {
 
+    public static final String GRAPH_DETAILS = "Project.details";
+
     @Column(name = "project_code")
     private String projectCode;
 
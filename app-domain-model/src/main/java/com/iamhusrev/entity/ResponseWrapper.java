@@ -12,14 +12,15 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class ResponseWrapper {
+public class ResponseWrapper<T> {
 
     private boolean success;
     private String message;
     private Integer code;
-    private Object data;
+    // Typed so Feign clients can decode the payload straight into DTOs instead of a LinkedHashMap tree.
+    private T data;
 
-    public ResponseWrapper(String message, Object data,HttpStatus httpStatus) {
+    public ResponseWrapper(String message, T data,HttpStatus httpStatus) {
         this.success = true;
         this.message = message;
         this.code = httpStatus.value();
@@ -11,12 +11,23 @@ import java.time.LocalDate;
 
 @Entity
 @Table(name = "tasks")
+@NamedEntityGraph(name = Task.GRAPH_DETAILS,
+        attributeNodes = {
+                @NamedAttributeNode(value = "project", subgraph = "project"),
+                @NamedAttributeNode(value = "assignedEmployee", subgraph = "user")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "project", attributeNodes = @NamedAttributeNode(value = "assignedManager", subgraph = "user")),
+                @NamedSubgraph(name = "user", attributeNodes = @NamedAttributeNode("role"))
+        })
 @NoArgsConstructor
 @Getter
 @Setter
 @Where(clause = "is_deleted=false")
 public class Task extends BaseEntity {
 
+    public static final String GRAPH_DETAILS = "Task.details";
+
     private String taskSubject;
     private String taskDetail;
 
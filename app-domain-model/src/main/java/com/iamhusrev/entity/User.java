@@ -12,10 +12,13 @@ import com.iamhusrev.enums.Gender;
 @Setter
 @Entity
 @Table(name = "users")
+@NamedEntityGraph(name = User.GRAPH_DETAILS, attributeNodes = @NamedAttributeNode("role"))
 @Where(clause = "is_deleted=false")
 @JsonIgnoreProperties(value = {"hibernateLazyInitializer"},ignoreUnknown = true)
 public class User extends BaseEntity {
 
+    public static final String GRAPH_DETAILS = "User.details";
+
     private String firstName;
     private String lastName;
     private String userName;
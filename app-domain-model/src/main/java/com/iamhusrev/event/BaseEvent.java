@@ -19,7 +19,8 @@ import java.util.UUID;
 @JsonSubTypes({
         @JsonSubTypes.Type(value = UserEvent.class, name = "UserEvent"),
         @JsonSubTypes.Type(value = ProjectEvent.class, name = "ProjectEvent"),
-        @JsonSubTypes.Type(value = TaskEvent.class, name = "TaskEvent")
+        @JsonSubTypes.Type(value = TaskEvent.class, name = "TaskEvent"),
+        @JsonSubTypes.Type(value = TaskBulkEvent.class, name = "TaskBulkEvent")
 })
 public abstract class BaseEvent implements Serializable {
 
@@ -0,0 +1,138 @@
+package com.iamhusrev.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded in-memory buffer between request threads and the broker. A single flusher thread sends
+ * whatever accumulated once batch-size events are waiting or flush-interval-ms has passed since the
+ * first one, and re-queues events that were not confirmed until max-attempts is reached.
+ * Serialization and confirm waits therefore happen off the request thread.
+ */
+@Slf4j
+public class EventPublishBuffer {
+
+    private final EventPublisher eventPublisher;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final int maxAttempts;
+    private final Counter overflow;
+    private final Counter dropped;
+    private final Thread flusher;
+    private volatile boolean running;
+
+    public EventPublishBuffer(EventPublisher eventPublisher, MeterRegistry meterRegistry, int capacity,
+                              int batchSize, long flushIntervalMs, int maxAttempts) {
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.maxAttempts = maxAttempts;
+        this.overflow = Counter.builder("events.publish.buffer.overflow")
+                .description("Events published synchronously because the buffer was full")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("events.publish.dropped")
+                .description("Events given up on after max-attempts unconfirmed publishes")
+                .register(meterRegistry);
+        Gauge.builder("events.publish.buffer.depth", queue, BlockingQueue::size)
+                .description("Events waiting in the publish buffer")
+                .register(meterRegistry);
+        this.flusher = new Thread(this::run, "event-publish-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 10_000);
+    }
+
+    /**
+     * Returns false when the buffer is full so the caller can fall back to a synchronous publish.
+     */
+    public boolean offer(BaseEvent event) {
+        if (queue.offer(new Pending(event, 1))) {
+            return true;
+        }
+        overflow.increment();
+        return false;
+    }
+
+    private void run() {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<Pending> batch = nextBatch();
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Event publish flush failed", e);
+            }
+        }
+    }
+
+    private List<Pending> nextBatch() throws InterruptedException {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        Pending first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                break;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<Pending> batch) {
+        Set<String> confirmed = eventPublisher.sendAll(batch.stream().map(Pending::event).collect(Collectors.toList()))
+                .stream().map(BaseEvent::getEventId).collect(Collectors.toSet());
+
+        for (Pending pending : batch) {
+            if (confirmed.contains(pending.event().getEventId())) {
+                continue;
+            }
+            if (pending.attempts() >= maxAttempts || !queue.offer(new Pending(pending.event(), pending.attempts() + 1))) {
+                dropped.increment();
+                log.error("Dropping event {} after {} unconfirmed publish attempts",
+                        pending.event().getEventId(), pending.attempts());
+            }
+        }
+    }
+
+    private record Pending(BaseEvent event, int attempts) {
+    }
+}
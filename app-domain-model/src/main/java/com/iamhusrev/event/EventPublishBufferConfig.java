@@ -0,0 +1,30 @@
+package com.iamhusrev.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "event-publisher.async", name = "enabled", havingValue = "true")
+public class EventPublishBufferConfig {
+
+    @Value("${event-publisher.async.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${event-publisher.async.batch-size:100}")
+    private int batchSize;
+
+    @Value("${event-publisher.async.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${event-publisher.async.max-attempts:3}")
+    private int maxAttempts;
+
+    @Bean
+    public EventPublishBuffer eventPublishBuffer(EventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        return new EventPublishBuffer(eventPublisher, meterRegistry, bufferCapacity, batchSize, flushIntervalMs,
+                maxAttempts);
+    }
+}
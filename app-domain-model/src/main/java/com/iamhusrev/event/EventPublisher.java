@@ -1,23 +1,129 @@
 package com.iamhusrev.event;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class EventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final ObjectProvider<OutboxRelay> outboxRelay;
+    private final ObjectProvider<EventPublishBuffer> publishBuffer;
+    private final Timer publishLatency;
+    private final Counter acked;
+    private final Counter nacked;
+    private final Counter timedOut;
+
+    @Value("${event-publisher.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    public EventPublisher(RabbitTemplate rabbitTemplate, ObjectProvider<OutboxRelay> outboxRelay,
+                          ObjectProvider<EventPublishBuffer> publishBuffer, MeterRegistry meterRegistry) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.outboxRelay = outboxRelay;
+        this.publishBuffer = publishBuffer;
+        this.publishLatency = Timer.builder("events.publish.latency")
+                .description("Time from handing an event to the broker until its publisher confirm arrives")
+                .register(meterRegistry);
+        this.acked = publishResult(meterRegistry, "ack");
+        this.nacked = publishResult(meterRegistry, "nack");
+        this.timedOut = publishResult(meterRegistry, "timeout");
+    }
 
+    /**
+     * Publishes through the outbox when it is enabled (outbox.enabled), so the event commits or rolls back
+     * with the caller's transaction. Otherwise the event is handed to the in-memory buffer
+     * (event-publisher.async.enabled) or, failing both, sent and confirmed on the calling thread.
+     */
     public void publish(BaseEvent event) {
-        log.info("Publishing event: {} with routing key: {}", event.getEventId(), event.getEventType());
-        rabbitTemplate.convertAndSend(
-                RabbitMQConfig.EXCHANGE_NAME,
-                event.getEventType(),
-                event
-        );
+        OutboxRelay relay = outboxRelay.getIfAvailable();
+        if (relay != null) {
+            log.debug("Staging event: {} with routing key: {}", event.getEventId(), event.getEventType());
+            relay.stage(event);
+            return;
+        }
+
+        EventPublishBuffer buffer = publishBuffer.getIfAvailable();
+        if (buffer != null && buffer.offer(event)) {
+            return;
+        }
+        send(event);
+    }
+
+    public void send(BaseEvent event) {
+        if (sendAll(List.of(event)).isEmpty()) {
+            throw new AmqpException("Event " + event.getEventId() + " was not confirmed by the broker");
+        }
+    }
+
+    /**
+     * Sends the events back to back and then waits for their publisher confirms, so a batch costs one
+     * confirm round trip instead of one per event. Returns the events the broker acknowledged; anything
+     * else (nack, timeout, or not sent because the broker went away mid-batch) is left to the caller to retry.
+     */
+    public List<BaseEvent> sendAll(List<BaseEvent> events) {
+        long start = System.nanoTime();
+        List<CorrelationData> pending = new ArrayList<>(events.size());
+
+        try {
+            for (BaseEvent event : events) {
+                log.info("Publishing event: {} with routing key: {}", event.getEventId(), event.getEventType());
+                CorrelationData correlation = new CorrelationData(event.getEventId());
+                rabbitTemplate.convertAndSend(RabbitMQConfig.EXCHANGE_NAME, event.getEventType(), event, correlation);
+                pending.add(correlation);
+            }
+        } catch (AmqpException e) {
+            log.warn("Broker rejected publish after {} of {} events: {}", pending.size(), events.size(), e.getMessage());
+        }
+
+        if (!rabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+            return new ArrayList<>(events.subList(0, pending.size()));
+        }
+
+        List<BaseEvent> confirmed = new ArrayList<>(pending.size());
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(confirmTimeoutMs);
+        for (int i = 0; i < pending.size(); i++) {
+            try {
+                CorrelationData.Confirm confirm = pending.get(i).getFuture()
+                        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (confirm.isAck()) {
+                    acked.increment();
+                    publishLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    confirmed.add(events.get(i));
+                } else {
+                    nacked.increment();
+                    log.warn("Event {} nacked by the broker: {}", events.get(i).getEventId(), confirm.getReason());
+                }
+            } catch (TimeoutException | ExecutionException e) {
+                timedOut.increment();
+                log.warn("No publisher confirm for event {} within {} ms", events.get(i).getEventId(), confirmTimeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return confirmed;
+    }
+
+    private static Counter publishResult(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("events.published")
+                .description("Published events by publisher confirm outcome")
+                .tag("result", result)
+                .register(meterRegistry);
     }
 }
@@ -0,0 +1,27 @@
+package com.iamhusrev.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamhusrev.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true")
+public class OutboxConfig {
+
+    @Value("${outbox.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, EventPublisher eventPublisher,
+                                   ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        return new OutboxRelay(outboxEventRepository, eventPublisher, objectMapper,
+                new TransactionTemplate(transactionManager), batchSize);
+    }
+}
@@ -0,0 +1,84 @@
+package com.iamhusrev.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamhusrev.entity.OutboxEvent;
+import com.iamhusrev.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transactional outbox. {@link #stage} stores an event in the caller's transaction, so it is only
+ * published if that transaction commits; {@link #drain} ships committed rows to RabbitMQ in batches
+ * and deletes them once the broker has confirmed them.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, EventPublisher eventPublisher,
+                       ObjectMapper objectMapper, TransactionTemplate transactionTemplate, int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void stage(BaseEvent event) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(null, event.getEventId(), event.getEventType(),
+                    objectMapper.writeValueAsString(event), LocalDateTime.now()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event " + event.getEventId(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay-interval-ms:200}")
+    public void drain() {
+        Integer relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed != null && relayed == batchSize);
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        List<OutboxEvent> done = new ArrayList<>(batch.size());
+        Map<String, OutboxEvent> rowsByEventId = new HashMap<>();
+        List<BaseEvent> events = new ArrayList<>(batch.size());
+
+        for (OutboxEvent row : batch) {
+            try {
+                events.add(objectMapper.readValue(row.getPayload(), BaseEvent.class));
+                rowsByEventId.put(row.getEventId(), row);
+            } catch (JsonProcessingException e) {
+                // An unreadable payload can never be published; drop it rather than retrying it on every run.
+                log.error("Dropping unreadable outbox event {}", row.getEventId(), e);
+                done.add(row);
+            }
+        }
+
+        // Rows are only deleted once the broker confirmed them; the rest stay for the next run.
+        List<BaseEvent> confirmed = events.isEmpty() ? List.of() : eventPublisher.sendAll(events);
+        confirmed.forEach(event -> done.add(rowsByEventId.get(event.getEventId())));
+        if (confirmed.size() < events.size()) {
+            log.warn("{} outbox events left for the next run", events.size() - confirmed.size());
+        }
+
+        outboxEventRepository.deleteAllInBatch(done);
+        return done.size();
+    }
+}
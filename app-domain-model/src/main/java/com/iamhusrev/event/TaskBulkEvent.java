@@ -0,0 +1,33 @@
+package com.iamhusrev.event;
+
+import com.iamhusrev.enums.Status;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskBulkEvent extends BaseEvent {
+
+    private Long projectId;
+    private String projectCode;
+    private Status status;
+    private int affectedCount;
+    private List<Long> taskIds;
+
+    public TaskBulkEvent(String eventType, Long projectId, String projectCode, Status status, int affectedCount) {
+        super(eventType, "task-service");
+        this.projectId = projectId;
+        this.projectCode = projectCode;
+        this.status = status;
+        this.affectedCount = affectedCount;
+    }
+
+    public TaskBulkEvent(String eventType, Long projectId, String projectCode, Status status, List<Long> taskIds) {
+        this(eventType, projectId, projectCode, status, taskIds.size());
+        this.taskIds = taskIds;
+    }
+}
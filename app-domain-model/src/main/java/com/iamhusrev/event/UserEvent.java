@@ -9,14 +9,16 @@ import lombok.Setter;
 @NoArgsConstructor
 public class UserEvent extends BaseEvent {
 
+    private Long organizationId;
     private Long userId;
     private String userName;
     private String firstName;
     private String lastName;
 
-    public UserEvent(String eventType, Long userId, String userName,
+    public UserEvent(String eventType, Long organizationId, Long userId, String userName,
                      String firstName, String lastName) {
         super(eventType, "user-service");
+        this.organizationId = organizationId;
         this.userId = userId;
         this.userName = userName;
         this.firstName = firstName;
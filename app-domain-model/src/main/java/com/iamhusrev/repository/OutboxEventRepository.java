@@ -0,0 +1,14 @@
+package com.iamhusrev.repository;
+
+import com.iamhusrev.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // SKIP LOCKED lets the relays of every service drain the shared table without handing out the same row twice.
+    @Query(value = "SELECT * FROM event_outbox ORDER BY id LIMIT ?1 FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(int batchSize);
+}
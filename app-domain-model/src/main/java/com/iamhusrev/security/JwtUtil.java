@@ -12,11 +12,14 @@ import java.util.Date;
 public class JwtUtil {
 
     private final SecretKey key;
+    // JwtParser is immutable and thread-safe; building it per call re-creates the verifier every time.
+    private final JwtParser parser;
     private final long accessTokenExpirationMs;
     private final long refreshTokenExpirationMs;
 
     public JwtUtil(String secret, long accessTokenExpirationMs, long refreshTokenExpirationMs) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTokenExpirationMs = accessTokenExpirationMs;
         this.refreshTokenExpirationMs = refreshTokenExpirationMs;
     }
@@ -47,11 +50,7 @@ public class JwtUtil {
     }
 
     public Claims validateToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Long getUserId(Claims claims) {
@@ -10,4 +10,9 @@ public final class SecurityConstants {
     public static final String HEADER_USER_NAME = "X-User-Name";
     public static final String HEADER_ORGANIZATION_ID = "X-Organization-Id";
     public static final String HEADER_USER_ROLE = "X-User-Role";
+    public static final String HEADER_IDEMPOTENCY_KEY = "Idempotency-Key";
+    // Absolute deadline (epoch millis) after which the gateway no longer waits for the response.
+    public static final String HEADER_REQUEST_DEADLINE = "X-Request-Deadline";
+    // Milliseconds the caller will still wait; each hop turns it into a deadline on its own clock.
+    public static final String HEADER_REQUEST_TIMEOUT = "X-Request-Timeout-Ms";
 }
@@ -7,6 +7,7 @@ public final class TenantContext {
     private TenantContext() {}
 
     private static final ThreadLocal<TenantInfo> CONTEXT = new ThreadLocal<>();
+    private static final ThreadLocal<Long> DEADLINE = new ThreadLocal<>();
 
     public static void set(TenantInfo info) {
         CONTEXT.set(info);
@@ -36,8 +37,22 @@ public final class TenantContext {
         return info != null ? info.getRole() : null;
     }
 
+    public static void setDeadline(Long deadlineEpochMillis) {
+        DEADLINE.set(deadlineEpochMillis);
+    }
+
+    /**
+     * Milliseconds left until the request deadline (negative once it has passed), or null when the
+     * request carried no deadline.
+     */
+    public static Long remainingMillis() {
+        Long deadline = DEADLINE.get();
+        return deadline != null ? deadline - System.currentTimeMillis() : null;
+    }
+
     public static void clear() {
         CONTEXT.remove();
+        DEADLINE.remove();
     }
 
     @Getter
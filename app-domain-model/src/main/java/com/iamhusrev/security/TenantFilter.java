@@ -22,6 +22,17 @@ public class TenantFilter extends OncePerRequestFilter {
             String userNameHeader = request.getHeader(SecurityConstants.HEADER_USER_NAME);
             String orgIdHeader = request.getHeader(SecurityConstants.HEADER_ORGANIZATION_ID);
             String roleHeader = request.getHeader(SecurityConstants.HEADER_USER_ROLE);
+            Long deadline = deadline(request);
+
+            if (deadline != null) {
+                TenantContext.setDeadline(deadline);
+                Long remaining = TenantContext.remainingMillis();
+                if (remaining != null && remaining <= 0) {
+                    // The caller has already given up; don't start work nobody will read.
+                    response.sendError(HttpServletResponse.SC_GATEWAY_TIMEOUT, "Request deadline exceeded");
+                    return;
+                }
+            }
 
             if (userIdHeader != null && orgIdHeader != null) {
                 Long userId = Long.parseLong(userIdHeader);
@@ -44,4 +55,25 @@ public class TenantFilter extends OncePerRequestFilter {
             SecurityContextHolder.clearContext();
         }
     }
+
+    // The relative timeout is measured against this host's clock, so skew between hosts doesn't matter;
+    // the gateway's absolute deadline is only used when no timeout was sent.
+    private static Long deadline(HttpServletRequest request) {
+        Long timeout = parseMillis(request.getHeader(SecurityConstants.HEADER_REQUEST_TIMEOUT));
+        if (timeout != null) {
+            return System.currentTimeMillis() + timeout;
+        }
+        return parseMillis(request.getHeader(SecurityConstants.HEADER_REQUEST_DEADLINE));
+    }
+
+    private static Long parseMillis(String header) {
+        if (header == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,28 @@
+package com.iamhusrev.util;
+
+import com.iamhusrev.security.TenantContext;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionTimedOutException;
+
+/**
+ * Caps every transaction started for a request at the time left until its deadline. Hibernate turns
+ * the transaction timeout into a JDBC query timeout on each statement, so queries for a request the
+ * caller has abandoned are cancelled by the database instead of running to completion.
+ */
+public class DeadlineAwareTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected int determineTimeout(TransactionDefinition definition) {
+        int timeout = super.determineTimeout(definition);
+        Long remaining = TenantContext.remainingMillis();
+        if (remaining == null) {
+            return timeout;
+        }
+        if (remaining <= 0) {
+            throw new TransactionTimedOutException("Request deadline exceeded " + -remaining + " ms ago");
+        }
+        int remainingSeconds = (int) Math.ceil(remaining / 1000.0);
+        return timeout == TransactionDefinition.TIMEOUT_DEFAULT ? remainingSeconds : Math.min(timeout, remainingSeconds);
+    }
+}
@@ -0,0 +1,23 @@
+package com.iamhusrev.util;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+@Configuration
+@ConditionalOnProperty(prefix = "deadline", name = "enabled", havingValue = "true")
+public class DeadlineConfig {
+
+    // Replaces Boot's JpaTransactionManager (same bean name, same customizers).
+    @Bean
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> customizers) {
+        DeadlineAwareTransactionManager transactionManager = new DeadlineAwareTransactionManager();
+        // The TransactionManager overload; the PlatformTransactionManager one is deprecated for removal.
+        customizers.ifAvailable(c -> c.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,42 @@
+package com.iamhusrev.util;
+
+import com.iamhusrev.dto.ProjectDTO;
+import com.iamhusrev.dto.RoleDTO;
+import com.iamhusrev.dto.TaskDTO;
+import com.iamhusrev.dto.UserDTO;
+import com.iamhusrev.entity.Project;
+import com.iamhusrev.entity.Role;
+import com.iamhusrev.entity.Task;
+import com.iamhusrev.entity.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Entity/DTO conversions generated by MapStruct at compile time (see DomainMapperImpl under
+ * target/generated-sources): plain getter/setter code, no reflection or runtime type matching.
+ * Audit and tenant columns of BaseEntity have no DTO counterpart and are left unset.
+ */
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface DomainMapper {
+
+    TaskDTO toTaskDTO(Task task);
+
+    Task toTask(TaskDTO dto);
+
+    ProjectDTO toProjectDTO(Project project);
+
+    Project toProject(ProjectDTO dto);
+
+    // The password hash never leaves the entity.
+    @Mapping(target = "passWord", ignore = true)
+    @Mapping(target = "confirmPassword", ignore = true)
+    UserDTO toUserDTO(User user);
+
+    User toUser(UserDTO dto);
+
+    RoleDTO toRoleDTO(Role role);
+
+    Role toRole(RoleDTO dto);
+}
@@ -1,21 +1,65 @@
 package com.iamhusrev.util;
 
-import org.modelmapper.ModelMapper;
+import com.iamhusrev.dto.ProjectDTO;
+import com.iamhusrev.dto.RoleDTO;
+import com.iamhusrev.dto.TaskDTO;
+import com.iamhusrev.dto.UserDTO;
+import com.iamhusrev.entity.Project;
+import com.iamhusrev.entity.Role;
+import com.iamhusrev.entity.Task;
+import com.iamhusrev.entity.User;
 import org.springframework.stereotype.Component;
 
-import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 @Component
 public class MapperUtil {
 
-    private final ModelMapper modelMapper;
+    // Every pair MapperUtil converts has a generated DomainMapper method.
+    private final List<Conversion<?, ?>> conversions;
 
-    public MapperUtil(ModelMapper modelMapper) {
-        this.modelMapper = modelMapper;
+    // Resolved per concrete source class, so Hibernate proxies find the mapping of their entity type.
+    private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> resolved = new ConcurrentHashMap<>();
+
+    public MapperUtil(DomainMapper domainMapper) {
+        this.conversions = List.of(
+                new Conversion<>(Task.class, TaskDTO.class, domainMapper::toTaskDTO),
+                new Conversion<>(TaskDTO.class, Task.class, domainMapper::toTask),
+                new Conversion<>(Project.class, ProjectDTO.class, domainMapper::toProjectDTO),
+                new Conversion<>(ProjectDTO.class, Project.class, domainMapper::toProject),
+                new Conversion<>(User.class, UserDTO.class, domainMapper::toUserDTO),
+                new Conversion<>(UserDTO.class, User.class, domainMapper::toUser),
+                new Conversion<>(Role.class, RoleDTO.class, domainMapper::toRoleDTO),
+                new Conversion<>(RoleDTO.class, Role.class, domainMapper::toRole)
+        );
     }
 
+    /**
+     * Converts to a new instance of {@code convertedObject}'s class; the passed instance only names the target type.
+     *
+     * @throws IllegalArgumentException if DomainMapper has no method for the pair
+     */
+    @SuppressWarnings("unchecked")
     public <T> T convert(Object objectToBeConverted, T convertedObject){
-        return modelMapper.map(objectToBeConverted,(Type) convertedObject.getClass());
+        Function<Object, Object> conversion = resolved
+                .computeIfAbsent(objectToBeConverted.getClass(), source -> new ConcurrentHashMap<>())
+                .computeIfAbsent(convertedObject.getClass(), target -> find(objectToBeConverted.getClass(), target));
+        return (T) conversion.apply(objectToBeConverted);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Function<Object, Object> find(Class<?> sourceClass, Class<?> targetClass) {
+        for (Conversion<?, ?> conversion : conversions) {
+            if (conversion.source().isAssignableFrom(sourceClass) && conversion.target() == targetClass) {
+                return (Function<Object, Object>) conversion.function();
+            }
+        }
+        throw new IllegalArgumentException("No mapping from " + sourceClass.getName() + " to " + targetClass.getName());
     }
 
+    private record Conversion<S, T>(Class<S> source, Class<T> target, Function<S, T> function) {
+    }
 }
@@ -0,0 +1,35 @@
+package com.iamhusrev.util;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. The repository tests register it as
+ * the session factory's statement inspector and pin every list query to one statement with {@link #statements}.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Runs the work and returns how many statements it prepared.
+     */
+    public static int statements(Runnable work) {
+        int[] counter = new int[1];
+        COUNTER.set(counter);
+        try {
+            work.run();
+            return counter[0];
+        } finally {
+            COUNTER.remove();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.iamhusrev.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket of retries earned by ordinary requests: every request deposits {@code ratio} of a
+ * token and every retry spends a whole one, so retries stay below that fraction of traffic no matter
+ * how many layers would otherwise retry. The balance is capped so quiet periods don't bank an
+ * unbounded burst. Balances are kept in thousandths of a token for lock-free integer updates.
+ */
+public class RetryBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    public RetryBudget(double ratio, int capacity) {
+        this.deposit = Math.round(ratio * TOKEN);
+        this.capacity = capacity * TOKEN;
+        this.balance = new AtomicLong(this.capacity);
+    }
+
+    public void deposit() {
+        balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+    }
+
+    public boolean canWithdraw() {
+        return balance.get() >= TOKEN;
+    }
+
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    public double balance() {
+        return (double) balance.get() / TOKEN;
+    }
+}
@@ -0,0 +1,73 @@
+package com.iamhusrev.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link RetryBudget} per target (gateway route, Feign client) with its metrics:
+ * {@code <prefix>.requests}, {@code <prefix>.retries}, {@code <prefix>.budget.exhausted} and the
+ * {@code <prefix>.budget.balance} gauge, tagged with the target. retries / requests is the retry ratio.
+ */
+public class RetryBudgetRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final String prefix;
+    private final String tag;
+    private final double ratio;
+    private final int capacity;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public RetryBudgetRegistry(MeterRegistry meterRegistry, String prefix, String tag, double ratio, int capacity) {
+        this.meterRegistry = meterRegistry;
+        this.prefix = prefix;
+        this.tag = tag;
+        this.ratio = ratio;
+        this.capacity = capacity;
+    }
+
+    public void recordRequest(String target) {
+        Entry entry = entry(target);
+        entry.budget().deposit();
+        entry.requests().increment();
+    }
+
+    public boolean canRetry(String target) {
+        return entry(target).budget().canWithdraw();
+    }
+
+    public boolean tryRetry(String target) {
+        Entry entry = entry(target);
+        if (entry.budget().tryWithdraw()) {
+            entry.retries().increment();
+            return true;
+        }
+        entry.exhausted().increment();
+        return false;
+    }
+
+    private Entry entry(String target) {
+        return entries.computeIfAbsent(target, this::newEntry);
+    }
+
+    private Entry newEntry(String target) {
+        RetryBudget budget = new RetryBudget(ratio, capacity);
+        Gauge.builder(prefix + ".budget.balance", budget, RetryBudget::balance)
+                .description("Retries currently available")
+                .tag(tag, target)
+                .register(meterRegistry);
+        return new Entry(budget,
+                Counter.builder(prefix + ".requests").description("Requests that earned retry budget")
+                        .tag(tag, target).register(meterRegistry),
+                Counter.builder(prefix + ".retries").description("Retries paid from the budget")
+                        .tag(tag, target).register(meterRegistry),
+                Counter.builder(prefix + ".budget.exhausted").description("Retries refused because the budget was empty")
+                        .tag(tag, target).register(meterRegistry));
+    }
+
+    private record Entry(RetryBudget budget, Counter requests, Counter retries, Counter exhausted) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.iamhusrev.util;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.enhanced.DatabaseStructure;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Raises every entity id sequence above the current MAX(id) of its table. Rows written while
+ * ids came from IDENTITY columns would otherwise collide with the first values the sequences hand out.
+ * Runs once all singletons exist, before the web server starts taking requests.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SequenceAligner implements SmartInitializingSingleton {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        EntityManagerFactory emf = entityManagerFactory.getIfAvailable();
+        if (emf == null) {
+            return;
+        }
+
+        SessionFactoryImplementor sessionFactory = emf.unwrap(SessionFactoryImplementor.class);
+        if (!(sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+
+        sessionFactory.getMappingMetamodel().forEachEntityDescriptor(persister -> {
+            if (persister.getGenerator() instanceof SequenceStyleGenerator generator
+                    && persister instanceof AbstractEntityPersister entityPersister) {
+                align(sessionFactory, generator.getDatabaseStructure(), entityPersister.getTableName());
+            }
+        });
+    }
+
+    private void align(SessionFactoryImplementor sessionFactory, DatabaseStructure sequence, String tableName) {
+        String sequenceName = sequence.getPhysicalName().render();
+        String sql = "SELECT setval('" + sequenceName + "', m.max_id + " + sequence.getIncrementSize() + ") " +
+                "FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM " + tableName + ") m, " + sequenceName + " s " +
+                "WHERE m.max_id >= s.last_value";
+
+        sessionFactory.inTransaction(session -> {
+            List<?> result = session.createNativeQuery(sql, Long.class).getResultList();
+            if (!result.isEmpty()) {
+                log.info("Aligned sequence {} with {} to {}", sequenceName, tableName, result.get(0));
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.entity.Project;
+import com.iamhusrev.entity.Role;
+import com.iamhusrev.entity.Task;
+import com.iamhusrev.entity.User;
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Hibernate over an in-memory H2 database served by an in-process TCP server, so every statement pays a
+ * loopback round trip as it does against Postgres. JDBC batching is set up like config-repo/application.yml.
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    static final int JDBC_BATCH_SIZE = 50;
+
+    private final Server server;
+    private final SessionFactory sessionFactory;
+
+    private BenchmarkDatabase(Server server, SessionFactory sessionFactory) {
+        this.server = server;
+        this.sessionFactory = sessionFactory;
+    }
+
+    static BenchmarkDatabase start() {
+        Server server;
+        try {
+            server = Server.createTcpServer("-tcpPort", String.valueOf(freePort()), "-tcpDaemon", "-ifNotExists").start();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not start the H2 TCP server", e);
+        }
+
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Role.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Project.class)
+                .addAnnotatedClass(Task.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:tcp://localhost:" + server.getPort()
+                        + "/mem:benchmark-" + System.nanoTime() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.POOL_SIZE, "4")
+                // Spring Boot's column naming (isDeleted -> is_deleted), which the @Where clauses rely on.
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(JDBC_BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.ORDER_UPDATES, "true");
+        return new BenchmarkDatabase(server, configuration.buildSessionFactory());
+    }
+
+    SessionFactory sessionFactory() {
+        return sessionFactory;
+    }
+
+    void inTransaction(Consumer<Session> work) {
+        sessionFactory.inTransaction(work);
+    }
+
+    /**
+     * Persists the {@link Fixtures#newTasks} graph: tasks spread over ten projects and twenty assignees.
+     */
+    void seed(int tasks) {
+        inTransaction(session -> Fixtures.newTasks(tasks).forEach(task -> {
+            session.persist(task.getProject().getAssignedManager().getRole());
+            session.persist(task.getAssignedEmployee().getRole());
+            session.persist(task.getProject().getAssignedManager());
+            session.persist(task.getAssignedEmployee());
+            session.persist(task.getProject());
+            session.persist(task);
+        }));
+    }
+
+    @Override
+    public void close() {
+        sessionFactory.close();
+        server.stop();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.iamhusrev.benchmarks;
+
+import org.apache.qpid.server.SystemLauncher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * In-process Qpid Broker-J speaking AMQP 0-9-1 on a free port, with an in-memory virtual host and the
+ * guest/guest user, so spring-rabbit connects to it the way the services connect to RabbitMQ.
+ */
+final class EmbeddedBroker implements AutoCloseable {
+
+    private static final String CONFIG = """
+            {
+              "name": "benchmark",
+              "modelVersion": "9.0",
+              "authenticationproviders": [{
+                "name": "plain", "type": "Plain", "secureOnlyMechanisms": [],
+                "users": [{"name": "guest", "type": "managed", "password": "guest"}]
+              }],
+              "ports": [{
+                "name": "AMQP", "port": "${qpid.amqp_port}", "authenticationProvider": "plain",
+                "virtualhostaliases": [{"name": "defaultAlias", "type": "defaultAlias"}]
+              }],
+              "virtualhostnodes": [{
+                "name": "default", "type": "Memory", "defaultVirtualHostNode": "true",
+                "virtualHostInitialConfiguration": "{\\"type\\": \\"Memory\\"}"
+              }]
+            }
+            """;
+
+    private final SystemLauncher launcher;
+    private final Path workDir;
+    private final int port;
+
+    private EmbeddedBroker(SystemLauncher launcher, Path workDir, int port) {
+        this.launcher = launcher;
+        this.workDir = workDir;
+        this.port = port;
+    }
+
+    static EmbeddedBroker start() {
+        int port = freePort();
+        try {
+            Path workDir = Files.createTempDirectory("qpid-benchmark");
+            Path config = Files.writeString(workDir.resolve("config.json"), CONFIG);
+            SystemLauncher launcher = new SystemLauncher();
+            launcher.startup(Map.of(
+                    "type", "Memory",
+                    "initialConfigurationLocation", config.toUri().toString(),
+                    "startupLoggedToSystemOut", false,
+                    "context", Map.of("qpid.amqp_port", String.valueOf(port),
+                            "qpid.work_dir", workDir.toString())));
+            return new EmbeddedBroker(launcher, workDir, port);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not start the embedded broker", e);
+        }
+    }
+
+    int port() {
+        return port;
+    }
+
+    @Override
+    public void close() {
+        launcher.shutdown();
+        try (Stream<Path> files = Files.walk(workDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.enums.Status;
+import com.iamhusrev.event.BaseEvent;
+import com.iamhusrev.event.TaskBulkEvent;
+import com.iamhusrev.event.TaskEvent;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Events through the same Jackson2JsonMessageConverter RabbitMQConfig registers: the publish side
+ * (toMessage) and the notification-service side (fromMessage, resolved via the __TypeId__ header).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private Jackson2JsonMessageConverter converter;
+    private TaskEvent taskEvent;
+    private TaskBulkEvent bulkEvent;
+    private Message taskMessage;
+    private Message bulkMessage;
+
+    @Setup
+    public void setUp() {
+        converter = new Jackson2JsonMessageConverter();
+        taskEvent = new TaskEvent("TASK_STATUS_UPDATED", 1000L, "Implement feature #1", "PRJ-1",
+                "employee1@acme.com", Status.IN_PROGRESS);
+        List<Long> taskIds = LongStream.range(1000, 1200).boxed().toList();
+        bulkEvent = new TaskBulkEvent("TASKS_COMPLETED", 11L, "PRJ-1", Status.COMPLETE, taskIds);
+        taskMessage = converter.toMessage(taskEvent, new MessageProperties());
+        bulkMessage = converter.toMessage(bulkEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public Message serializeTaskEvent() {
+        return converter.toMessage(taskEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public BaseEvent deserializeTaskEvent() {
+        return (BaseEvent) converter.fromMessage(taskMessage);
+    }
+
+    @Benchmark
+    public Message serializeBulkEvent() {
+        return converter.toMessage(bulkEvent, new MessageProperties());
+    }
+
+    @Benchmark
+    public BaseEvent deserializeBulkEvent() {
+        return (BaseEvent) converter.fromMessage(bulkMessage);
+    }
+}
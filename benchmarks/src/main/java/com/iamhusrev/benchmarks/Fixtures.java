@@ -0,0 +1,130 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.dto.RoleDTO;
+import com.iamhusrev.dto.UserDTO;
+import com.iamhusrev.entity.BaseEntity;
+import com.iamhusrev.entity.Project;
+import com.iamhusrev.entity.Role;
+import com.iamhusrev.entity.Task;
+import com.iamhusrev.entity.User;
+import com.iamhusrev.enums.Gender;
+import com.iamhusrev.enums.Status;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Object graphs shaped like what the services load with the Task/Project "details" entity graphs:
+ * a task with its project, the project's manager and the assignee, each user with a role.
+ */
+final class Fixtures {
+
+    static final long ORGANIZATION_ID = 7L;
+
+    private Fixtures() {}
+
+    static List<Task> tasks(int count) {
+        Role managerRole = role(2L, "Manager");
+        Role employeeRole = role(3L, "Employee");
+        List<User> employees = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            employees.add(user(100L + i, "employee" + i + "@acme.com", employeeRole));
+        }
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            projects.add(project(10L + i, "PRJ-" + i, user(50L + i, "manager" + i + "@acme.com", managerRole)));
+        }
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId(1000L + i);
+            task.setOrganizationId(ORGANIZATION_ID);
+            task.setInsertDateTime(LocalDateTime.of(2024, 3, 1, 9, 0));
+            task.setTaskSubject("Implement feature #" + i);
+            task.setTaskDetail("Acceptance criteria and notes for feature #" + i + " of the current sprint.");
+            task.setTaskStatus(Status.values()[i % Status.values().length]);
+            task.setAssignedDate(LocalDate.of(2024, 3, 1).plusDays(i % 30));
+            task.setProject(projects.get(i % projects.size()));
+            task.setAssignedEmployee(employees.get(i % employees.size()));
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * The {@link #tasks} graph without ids, ready to be persisted.
+     */
+    static List<Task> newTasks(int count) {
+        List<Task> tasks = tasks(count);
+        Set<BaseEntity> graph = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Task task : tasks) {
+            graph.add(task);
+            graph.add(task.getAssignedEmployee());
+            graph.add(task.getAssignedEmployee().getRole());
+            graph.add(task.getProject());
+            graph.add(task.getProject().getAssignedManager());
+            graph.add(task.getProject().getAssignedManager().getRole());
+        }
+        graph.forEach(entity -> entity.setId(null));
+        return tasks;
+    }
+
+    static List<UserDTO> userDTOs(int count) {
+        RoleDTO role = new RoleDTO(3L, "Employee");
+        List<UserDTO> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(UserDTO.builder()
+                    .id(100L + i)
+                    .firstName("First" + i)
+                    .lastName("Last" + i)
+                    .userName("employee" + i + "@acme.com")
+                    .enabled(true)
+                    .phone("+90555000" + String.format("%04d", i % 10000))
+                    .gender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                    .role(role)
+                    .build());
+        }
+        return users;
+    }
+
+    private static Role role(Long id, String description) {
+        Role role = new Role(description);
+        role.setId(id);
+        return role;
+    }
+
+    private static User user(Long id, String userName, Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setOrganizationId(ORGANIZATION_ID);
+        user.setFirstName("First" + id);
+        user.setLastName("Last" + id);
+        user.setUserName(userName);
+        user.setPassWord("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z4Z1ZGZf8u9Q2xXW7e1Q1Z6e");
+        user.setEnabled(true);
+        user.setPhone("+905550000000");
+        user.setGender(Gender.FEMALE);
+        user.setRole(role);
+        return user;
+    }
+
+    private static Project project(Long id, String code, User manager) {
+        Project project = new Project();
+        project.setId(id);
+        project.setOrganizationId(ORGANIZATION_ID);
+        project.setProjectCode(code);
+        project.setProjectName("Project " + code);
+        project.setProjectDetail("Details of " + code);
+        project.setProjectStatus(Status.IN_PROGRESS);
+        project.setStartDate(LocalDate.of(2024, 1, 1));
+        project.setEndDate(LocalDate.of(2024, 12, 31));
+        project.setAssignedManager(manager);
+        return project;
+    }
+}
@@ -0,0 +1,38 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issuing (user-service login) and validation (every request through the gateway on a claims-cache miss).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("benchmark-secret-key-that-is-at-least-32-bytes", 900_000L, 604_800_000L);
+        token = jwtUtil.generateAccessToken(42L, "employee@acme.com", Fixtures.ORGANIZATION_ID, "Employee");
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(42L, "employee@acme.com", Fixtures.ORGANIZATION_ID, "Employee");
+    }
+
+    @Benchmark
+    public Claims validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+}
@@ -0,0 +1,69 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.dto.TaskDTO;
+import com.iamhusrev.entity.Task;
+import com.iamhusrev.util.DomainMapperImpl;
+import com.iamhusrev.util.MapperUtil;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task entity graph to TaskDTO, through MapperUtil (generated DomainMapper) and through a plain ModelMapper
+ * configured like the services' beans, for a single task and a list-endpoint sized page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"50"})
+    public int pageSize;
+
+    private ModelMapper modelMapper;
+    private MapperUtil mapperUtil;
+    private Task task;
+    private List<Task> page;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        mapperUtil = new MapperUtil(new DomainMapperImpl());
+        page = Fixtures.tasks(pageSize);
+        task = page.get(0);
+    }
+
+    @Benchmark
+    public TaskDTO mapperUtilTask() {
+        return mapperUtil.convert(task, new TaskDTO());
+    }
+
+    @Benchmark
+    public TaskDTO modelMapperTask() {
+        return modelMapper.map(task, TaskDTO.class);
+    }
+
+    @Benchmark
+    public List<TaskDTO> mapperUtilPage() {
+        List<TaskDTO> result = new ArrayList<>(page.size());
+        for (Task each : page) {
+            result.add(mapperUtil.convert(each, new TaskDTO()));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<TaskDTO> modelMapperPage() {
+        List<TaskDTO> result = new ArrayList<>(page.size());
+        for (Task each : page) {
+            result.add(modelMapper.map(each, TaskDTO.class));
+        }
+        return result;
+    }
+}
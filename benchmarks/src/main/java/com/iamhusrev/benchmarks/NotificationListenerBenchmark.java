@@ -0,0 +1,150 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.config.RabbitListenerConfig;
+import com.iamhusrev.enums.Status;
+import com.iamhusrev.event.BaseEvent;
+import com.iamhusrev.event.ProjectEvent;
+import com.iamhusrev.event.RabbitMQConfig;
+import com.iamhusrev.event.TaskBulkEvent;
+import com.iamhusrev.event.TaskEvent;
+import com.iamhusrev.event.UserEvent;
+import com.iamhusrev.listener.EventDeduplicator;
+import com.iamhusrev.listener.NotificationListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draining a backlog of {@code messages} events from notification.queue on an embedded broker, through
+ * NotificationListener, EventDeduplicator and RabbitListenerConfig from notification-service, wired by the
+ * same auto-configuration as in the service and configured from config-repo/notification-service.yml.
+ * "batched" uses those settings unchanged; "baseline" overrides them to one consumer receiving one event
+ * per call. NotificationListener logs to notification-benchmark.log in java.io.tmpdir.
+ * Messages/sec is {@code messages} divided by the time per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class NotificationListenerBenchmark {
+
+    @Param({"baseline", "batched"})
+    public String listener;
+
+    @Param({"20000"})
+    public int messages;
+
+    private EmbeddedBroker broker;
+    private AnnotationConfigApplicationContext context;
+    private RabbitAdmin admin;
+    private RabbitTemplate template;
+    private RabbitListenerEndpointRegistry listeners;
+    private Timer consumeLag;
+    private long consumed;
+
+    @Setup
+    public void setUp() throws IOException {
+        broker = EmbeddedBroker.start();
+        context = new AnnotationConfigApplicationContext();
+        // As SpringApplication does, so @Value("10m") binds to a Duration.
+        context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance());
+        MutablePropertySources sources = context.getEnvironment().getPropertySources();
+        sources.addFirst(new MapPropertySource("benchmark", overrides()));
+        for (PropertySource<?> source : new YamlPropertySourceLoader()
+                .load("notification-service.yml", new ClassPathResource("notification-service.yml"))) {
+            sources.addLast(source);
+        }
+        // The service's own configuration first, so the auto-configuration backs off where it does in the service.
+        context.register(RabbitMQConfig.class, RabbitListenerConfig.class, EventDeduplicator.class,
+                NotificationListener.class, RabbitAutoConfiguration.class);
+        context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+        context.refresh();
+
+        admin = context.getBean(RabbitAdmin.class);
+        template = context.getBean(RabbitTemplate.class);
+        listeners = context.getBean(RabbitListenerEndpointRegistry.class);
+        consumeLag = context.getBean(MeterRegistry.class).get("notification.consume.lag").timer();
+    }
+
+    private Map<String, Object> overrides() {
+        Map<String, Object> overrides = new HashMap<>();
+        overrides.put("spring.rabbitmq.host", "localhost");
+        overrides.put("spring.rabbitmq.port", broker.port());
+        // Started by the benchmark once the backlog is in place.
+        overrides.put("spring.rabbitmq.listener.simple.auto-startup", false);
+        if ("baseline".equals(listener)) {
+            overrides.put("spring.rabbitmq.listener.simple.concurrency", 1);
+            overrides.put("spring.rabbitmq.listener.simple.max-concurrency", 1);
+            overrides.put("spring.rabbitmq.listener.simple.batch-size", 1);
+        }
+        return overrides;
+    }
+
+    @Setup(Level.Invocation)
+    public void fillQueue() throws InterruptedException {
+        for (int i = 0; i < messages; i++) {
+            template.convertAndSend(RabbitMQConfig.NOTIFICATION_QUEUE, event(i));
+        }
+        while (admin.getQueueInfo(RabbitMQConfig.NOTIFICATION_QUEUE).getMessageCount() < messages) {
+            Thread.sleep(10);
+        }
+        consumed = consumeLag.count();
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopListener() {
+        listeners.stop();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        broker.close();
+    }
+
+    // Every event carries a timestamp, so the listener's lag timer counts each one it handles.
+    @Benchmark
+    public void drainQueue() throws InterruptedException {
+        listeners.start();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(5);
+        while (consumeLag.count() - consumed < messages) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException((messages - (consumeLag.count() - consumed)) + " messages were not consumed");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static BaseEvent event(int i) {
+        return switch (i % 4) {
+            case 0 -> new UserEvent("USER_UPDATED", Fixtures.ORGANIZATION_ID, (long) i, "employee" + i + "@acme.com",
+                    "Employee", "No " + i);
+            case 1 -> new ProjectEvent("PROJECT_UPDATED", (long) i % 10, "PRJ-" + i % 10, "Project " + i % 10,
+                    "manager1@acme.com");
+            case 2 -> new TaskEvent("TASK_STATUS_UPDATED", (long) i, "Implement feature #" + i, "PRJ-" + i % 10,
+                    "employee" + i + "@acme.com", Status.IN_PROGRESS);
+            default -> new TaskBulkEvent("TASKS_COMPLETED", (long) i % 10, "PRJ-" + i % 10, Status.COMPLETE,
+                    List.of((long) i, i + 1L, i + 2L));
+        };
+    }
+}
@@ -0,0 +1,78 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.dto.TaskDTO;
+import com.iamhusrev.entity.Task;
+import com.iamhusrev.repository.TaskRepository;
+import com.iamhusrev.util.DomainMapperImpl;
+import com.iamhusrev.util.MapperUtil;
+import org.hibernate.Session;
+import org.hibernate.jpa.SpecHints;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading every task of a table as TaskDTOs: entities plus MapperUtil.convert (lazy associations loaded
+ * one by one, as the list endpoints did before projections), the same with the Task "details" entity
+ * graph, and TaskRepository's constructor projection the read paths use now. Rows/sec is ops/s times
+ * {@code rows}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadPathBenchmark {
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private BenchmarkDatabase database;
+    private MapperUtil mapperUtil;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        database.seed(rows);
+        mapperUtil = new MapperUtil(new DomainMapperImpl());
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<TaskDTO> entitiesAndConvert() {
+        try (Session session = database.sessionFactory().openSession()) {
+            return convert(session.createSelectionQuery("FROM Task t ORDER BY t.id", Task.class).list());
+        }
+    }
+
+    @Benchmark
+    public List<TaskDTO> entityGraphAndConvert() {
+        try (Session session = database.sessionFactory().openSession()) {
+            return convert(session.createSelectionQuery("FROM Task t ORDER BY t.id", Task.class)
+                    .setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, session.getEntityGraph(Task.GRAPH_DETAILS))
+                    .list());
+        }
+    }
+
+    @Benchmark
+    public List<TaskDTO> projection() {
+        try (Session session = database.sessionFactory().openSession()) {
+            return session.createSelectionQuery(TaskRepository.TASK_DTO_SELECT + "ORDER BY t.id", TaskDTO.class).list();
+        }
+    }
+
+    private List<TaskDTO> convert(List<Task> tasks) {
+        List<TaskDTO> result = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            result.add(mapperUtil.convert(task, new TaskDTO()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package com.iamhusrev.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamhusrev.dto.UserDTO;
+import com.iamhusrev.entity.ResponseWrapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feign response decoding: the typed ResponseWrapper the clients declare now, against the previous
+ * path of decoding into an untyped map tree and re-binding the payload with ObjectMapper.convertValue.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseDecodeBenchmark {
+
+    @Param({"1", "100"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private JavaType typedSingle;
+    private JavaType typedList;
+    private JavaType userList;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        typedSingle = objectMapper.getTypeFactory().constructType(new TypeReference<ResponseWrapper<UserDTO>>() {});
+        typedList = objectMapper.getTypeFactory().constructType(new TypeReference<ResponseWrapper<List<UserDTO>>>() {});
+        userList = objectMapper.getTypeFactory().constructType(new TypeReference<List<UserDTO>>() {});
+        List<UserDTO> users = Fixtures.userDTOs(size);
+        Object data = size == 1 ? users.get(0) : users;
+        body = objectMapper.writeValueAsBytes(new ResponseWrapper<>("ok", data, HttpStatus.OK));
+    }
+
+    @Benchmark
+    public Object typed() throws Exception {
+        ResponseWrapper<?> wrapper = objectMapper.readValue(body, size == 1 ? typedSingle : typedList);
+        return wrapper.getData();
+    }
+
+    @Benchmark
+    public Object untypedConvertValue() throws Exception {
+        ResponseWrapper<?> wrapper = objectMapper.readValue(body, ResponseWrapper.class);
+        if (size == 1) {
+            return objectMapper.convertValue(wrapper.getData(), UserDTO.class);
+        }
+        return objectMapper.convertValue(wrapper.getData(), userList);
+    }
+}
@@ -0,0 +1,122 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.entity.Project;
+import com.iamhusrev.entity.Task;
+import com.iamhusrev.entity.User;
+import com.iamhusrev.enums.Status;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing a sprint of {@code tasks} tasks: one transaction per task (POST /api/task once per task), one
+ * transaction with JDBC batching off, and one transaction with the configured batch size
+ * (POST/PUT /api/task/batch). Tasks/sec is {@code tasks} divided by the time per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskBatchBenchmark {
+
+    private static final String NEW_SUBJECT = "new task";
+
+    @Param({"100", "500"})
+    public int tasks;
+
+    private BenchmarkDatabase database;
+    private Long projectId;
+    private Long employeeId;
+    private List<Long> existingIds;
+    private int round;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start();
+        database.seed(tasks);
+        try (Session session = database.sessionFactory().openSession()) {
+            Task first = session.createSelectionQuery("FROM Task t ORDER BY t.id", Task.class)
+                    .setMaxResults(1).getSingleResult();
+            projectId = first.getProject().getId();
+            employeeId = first.getAssignedEmployee().getId();
+            existingIds = session.createSelectionQuery("SELECT t.id FROM Task t ORDER BY t.id", Long.class).list();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreated() {
+        database.inTransaction(session -> session.createMutationQuery("DELETE FROM Task t WHERE t.taskSubject = :subject")
+                .setParameter("subject", NEW_SUBJECT)
+                .executeUpdate());
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public void createOnePerTransaction() {
+        for (int i = 0; i < tasks; i++) {
+            database.inTransaction(session -> session.persist(newTask(session)));
+        }
+    }
+
+    @Benchmark
+    public void createUnbatched() {
+        database.inTransaction(session -> {
+            session.setJdbcBatchSize(1);
+            for (int i = 0; i < tasks; i++) {
+                session.persist(newTask(session));
+            }
+        });
+    }
+
+    @Benchmark
+    public void createBatched() {
+        database.inTransaction(session -> {
+            for (int i = 0; i < tasks; i++) {
+                session.persist(newTask(session));
+            }
+        });
+    }
+
+    @Benchmark
+    public void updateOnePerTransaction() {
+        Status status = nextStatus();
+        for (Long id : existingIds) {
+            database.inTransaction(session -> session.get(Task.class, id).setTaskStatus(status));
+        }
+    }
+
+    @Benchmark
+    public void updateBatched() {
+        Status status = nextStatus();
+        database.inTransaction(session -> session.createSelectionQuery("FROM Task t WHERE t.id IN :ids", Task.class)
+                .setParameter("ids", existingIds)
+                .list()
+                .forEach(task -> task.setTaskStatus(status)));
+    }
+
+    private Task newTask(Session session) {
+        Task task = new Task();
+        task.setTaskSubject(NEW_SUBJECT);
+        task.setTaskDetail("Imported with the sprint");
+        task.setTaskStatus(Status.OPEN);
+        task.setAssignedDate(LocalDate.now());
+        task.setProject(session.getReference(Project.class, projectId));
+        task.setAssignedEmployee(session.getReference(User.class, employeeId));
+        task.setOrganizationId(Fixtures.ORGANIZATION_ID);
+        return task;
+    }
+
+    // Alternates so every update really changes the row.
+    private Status nextStatus() {
+        return round++ % 2 == 0 ? Status.IN_PROGRESS : Status.UAT_TEST;
+    }
+}
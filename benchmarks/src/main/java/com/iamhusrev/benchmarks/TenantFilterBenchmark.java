@@ -0,0 +1,77 @@
+package com.iamhusrev.benchmarks;
+
+import com.iamhusrev.security.SecurityConstants;
+import com.iamhusrev.security.TenantFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of TenantFilter in the downstream services: gateway header parsing, TenantContext
+ * and SecurityContext population and their cleanup, with an empty chain behind it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TenantFilterBenchmark {
+
+    private final ExposedTenantFilter filter = new ExposedTenantFilter();
+    private final FilterChain chain = (request, response) -> { };
+
+    private MockHttpServletRequest authenticated;
+    private MockHttpServletRequest withDeadline;
+    private MockHttpServletRequest anonymous;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        authenticated = new MockHttpServletRequest("GET", "/api/task/list");
+        authenticated.addHeader(SecurityConstants.HEADER_USER_ID, "42");
+        authenticated.addHeader(SecurityConstants.HEADER_USER_NAME, "employee@acme.com");
+        authenticated.addHeader(SecurityConstants.HEADER_ORGANIZATION_ID, String.valueOf(Fixtures.ORGANIZATION_ID));
+        authenticated.addHeader(SecurityConstants.HEADER_USER_ROLE, "Employee");
+
+        withDeadline = new MockHttpServletRequest("GET", "/api/task/list");
+        authenticated.getHeaderNames().asIterator()
+                .forEachRemaining(name -> withDeadline.addHeader(name, authenticated.getHeader(name)));
+        // Long enough to never expire during a run.
+        withDeadline.addHeader(SecurityConstants.HEADER_REQUEST_TIMEOUT, String.valueOf(Long.MAX_VALUE / 2));
+
+        anonymous = new MockHttpServletRequest("POST", "/api/auth/login");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authenticatedRequest() throws ServletException, IOException {
+        filter.filter(authenticated, response, chain);
+    }
+
+    @Benchmark
+    public void authenticatedRequestWithDeadline() throws ServletException, IOException {
+        filter.filter(withDeadline, response, chain);
+    }
+
+    @Benchmark
+    public void anonymousRequest() throws ServletException, IOException {
+        filter.filter(anonymous, response, chain);
+    }
+
+    // doFilterInternal directly, skipping OncePerRequestFilter's already-filtered attribute bookkeeping.
+    private static final class ExposedTenantFilter extends TenantFilter {
+
+        void filter(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            doFilterInternal(request, response, chain);
+        }
+    }
+}
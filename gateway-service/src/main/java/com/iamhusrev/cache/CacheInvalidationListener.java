@@ -0,0 +1,44 @@
+package com.iamhusrev.cache;
+
+import com.iamhusrev.event.RabbitMQConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.ExchangeTypes;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drops cached responses when the data behind them changes. Every gateway instance binds its own
+ * auto-delete queue, so all of them see every event. Only the routing key (the event type) is read.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    // Project and task responses embed user and project summaries, and project details carry task counts.
+    private static final Map<String, List<String>> ROUTES_BY_EVENT_PREFIX = Map.of(
+            "user.", List.of("user-service", "project-service", "task-service"),
+            "project.", List.of("project-service", "task-service"),
+            "task.", List.of("task-service", "project-service")
+    );
+
+    private final ResponseCache responseCache;
+
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue(autoDelete = "true", exclusive = "true"),
+            exchange = @Exchange(value = RabbitMQConfig.EXCHANGE_NAME, type = ExchangeTypes.TOPIC),
+            key = {"user.#", "project.#", "task.#"}))
+    public void onEvent(Message message) {
+        String eventType = message.getMessageProperties().getReceivedRoutingKey();
+        ROUTES_BY_EVENT_PREFIX.entrySet().stream()
+                .filter(entry -> eventType.startsWith(entry.getKey()))
+                .findFirst()
+                .ifPresent(entry -> responseCache.invalidate(entry.getValue()));
+    }
+}
@@ -0,0 +1,6 @@
+package com.iamhusrev.cache;
+
+import org.springframework.http.MediaType;
+
+public record CachedResponse(MediaType contentType, byte[] body) {
+}
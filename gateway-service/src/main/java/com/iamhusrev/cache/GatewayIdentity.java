@@ -0,0 +1,22 @@
+package com.iamhusrev.cache;
+
+import com.iamhusrev.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+
+/**
+ * Verified token claims, already rendered as the X-User-* header values forwarded downstream.
+ */
+public record GatewayIdentity(String userId, String userName, String organizationId, String role, long expiresAtMillis) {
+
+    // Exchange attribute under which JwtAuthenticationFilter leaves the caller's identity for later filters.
+    public static final String EXCHANGE_ATTRIBUTE = GatewayIdentity.class.getName();
+
+    static GatewayIdentity of(JwtUtil jwtUtil, Claims claims) {
+        return new GatewayIdentity(
+                String.valueOf(jwtUtil.getUserId(claims)),
+                jwtUtil.getUserName(claims),
+                String.valueOf(jwtUtil.getOrganizationId(claims)),
+                jwtUtil.getRole(claims),
+                claims.getExpiration().getTime());
+    }
+}
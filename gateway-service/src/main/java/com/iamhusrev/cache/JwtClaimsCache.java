@@ -0,0 +1,107 @@
+package com.iamhusrev.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.iamhusrev.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verified identities keyed by a SHA-256 digest of the access token (raw tokens are never kept).
+ * A client reuses one token for its whole lifetime, so signature verification and claims parsing
+ * happen once per token; each entry expires at the token's own exp. With gateway.jwt-cache.enabled=false
+ * every request is verified, which is how the load test measures what the cache saves.
+ */
+@Component
+public class JwtClaimsCache {
+
+    private final JwtUtil jwtUtil;
+    private final boolean enabled;
+    private final Cache<String, GatewayIdentity> cache;
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public JwtClaimsCache(JwtUtil jwtUtil, MeterRegistry meterRegistry,
+                          @Value("${gateway.jwt-cache.enabled:true}") boolean enabled,
+                          @Value("${gateway.jwt-cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.jwt.claims");
+        this.hitTimer = validationTimer(meterRegistry, "hit");
+        this.missTimer = validationTimer(meterRegistry, "miss");
+    }
+
+    /**
+     * Returns the identity for a token, verifying it only on a cache miss.
+     * Throws the JJWT exception when the token is invalid or expired.
+     */
+    public GatewayIdentity resolve(String token) {
+        long start = System.nanoTime();
+        String digest = enabled ? digest(token) : null;
+        GatewayIdentity identity = digest == null ? null : cache.getIfPresent(digest);
+        if (identity != null) {
+            hitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return identity;
+        }
+        try {
+            identity = GatewayIdentity.of(jwtUtil, jwtUtil.validateToken(token));
+            if (digest != null) {
+                cache.put(digest, identity);
+            }
+            return identity;
+        } finally {
+            missTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static Timer validationTimer(MeterRegistry meterRegistry, String cacheResult) {
+        return Timer.builder("gateway.jwt.validation")
+                .description("Time to resolve a caller identity from its token")
+                .tag("cache", cacheResult)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, GatewayIdentity> {
+
+        @Override
+        public long expireAfterCreate(String key, GatewayIdentity identity, long currentTime) {
+            long remainingMillis = identity.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, GatewayIdentity identity, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, identity, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, GatewayIdentity identity, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.iamhusrev.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Successful GET responses keyed by route, tenant, user and path. Entries live for at most the TTL,
+ * the cache is bounded by total body bytes, and a route's entries are dropped when a domain event
+ * says its data changed. Each route carries a generation number so a response that was in flight
+ * while the route was invalidated is not stored afterwards.
+ */
+@Component
+@Slf4j
+public class ResponseCache {
+
+    private final Cache<String, CachedResponse> cache;
+    private final List<String> routes;
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+    private final Counter invalidations;
+
+    public ResponseCache(MeterRegistry meterRegistry,
+                         @Value("${gateway.response-cache.routes:}") List<String> routes,
+                         @Value("${gateway.response-cache.ttl:30s}") Duration ttl,
+                         @Value("${gateway.response-cache.max-bytes:67108864}") long maxBytes) {
+        this.routes = routes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> key.length() + response.body().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.invalidations = Counter.builder("gateway.response.cache.invalidations")
+                .description("Route invalidations triggered by domain events")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response");
+    }
+
+    public boolean isCached(String routeId) {
+        return routes.contains(routeId);
+    }
+
+    public static String key(String routeId, String organizationId, String userId, String pathAndQuery) {
+        return routeId + '|' + organizationId + '|' + userId + '|' + pathAndQuery;
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public long generation(String routeId) {
+        return generations.computeIfAbsent(routeId, id -> new AtomicLong()).get();
+    }
+
+    public void put(String routeId, long generation, String key, CachedResponse response) {
+        if (generation(routeId) == generation) {
+            cache.put(key, response);
+        }
+    }
+
+    public void invalidate(Collection<String> routeIds) {
+        for (String routeId : routeIds) {
+            generations.computeIfAbsent(routeId, id -> new AtomicLong()).incrementAndGet();
+            String prefix = routeId + '|';
+            cache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+            invalidations.increment();
+        }
+        log.debug("Invalidated cached responses for {}", routeIds);
+    }
+}
@@ -0,0 +1,58 @@
+package com.iamhusrev.controller;
+
+import com.iamhusrev.cache.GatewayIdentity;
+import com.iamhusrev.cache.JwtClaimsCache;
+import com.iamhusrev.entity.ResponseWrapper;
+import com.iamhusrev.security.SecurityConstants;
+import com.iamhusrev.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Served by the gateway itself rather than a route, so global filters don't run here and the token is
+ * checked in the controller.
+ */
+@RestController
+@RequestMapping(value = "/iamhusrev/dev/dashboard", produces = MediaType.APPLICATION_JSON_VALUE)
+@CrossOrigin(origins = "${CORS_ALLOWED_ORIGINS:http://localhost:3000,http://localhost:4200}", allowCredentials = "true")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final JwtClaimsCache jwtClaimsCache;
+
+    @GetMapping
+    public Mono<ResponseEntity<ResponseWrapper<?>>> getDashboard(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader) {
+        GatewayIdentity identity;
+        try {
+            if (authHeader == null || !authHeader.startsWith(SecurityConstants.TOKEN_PREFIX)) {
+                throw new IllegalArgumentException("Missing or invalid Authorization header");
+            }
+            identity = jwtClaimsCache.resolve(authHeader.substring(SecurityConstants.TOKEN_PREFIX.length()));
+        } catch (Exception e) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ResponseWrapper<>("Invalid or expired token", HttpStatus.UNAUTHORIZED)));
+        }
+
+        return dashboardService.load(identity).<ResponseEntity<ResponseWrapper<?>>>map(dashboard -> {
+            if (dashboard.getUnavailable().size() == 4) {
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .body(new ResponseWrapper<>("Dashboard services are temporarily unavailable.", HttpStatus.SERVICE_UNAVAILABLE));
+            }
+            String message = dashboard.getUnavailable().isEmpty()
+                    ? "Dashboard is successfully retrieved"
+                    : "Dashboard is partially retrieved";
+            return ResponseEntity.ok(new ResponseWrapper<>(message, dashboard, HttpStatus.OK));
+        });
+    }
+}
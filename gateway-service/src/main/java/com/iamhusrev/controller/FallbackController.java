@@ -12,28 +12,28 @@ import org.springframework.web.bind.annotation.RestController;
 public class FallbackController {
 
     @RequestMapping("/auth")
-    public ResponseEntity<ResponseWrapper> authFallback() {
+    public ResponseEntity<ResponseWrapper<?>> authFallback() {
         return fallback("Auth service is warming up or temporarily unavailable.");
     }
 
     @RequestMapping("/user")
-    public ResponseEntity<ResponseWrapper> userFallback() {
+    public ResponseEntity<ResponseWrapper<?>> userFallback() {
         return fallback("User service is warming up or temporarily unavailable.");
     }
 
     @RequestMapping("/project")
-    public ResponseEntity<ResponseWrapper> projectFallback() {
+    public ResponseEntity<ResponseWrapper<?>> projectFallback() {
         return fallback("Project service is warming up or temporarily unavailable.");
     }
 
     @RequestMapping("/task")
-    public ResponseEntity<ResponseWrapper> taskFallback() {
+    public ResponseEntity<ResponseWrapper<?>> taskFallback() {
         return fallback("Task service is warming up or temporarily unavailable.");
     }
 
-    private ResponseEntity<ResponseWrapper> fallback(String message) {
+    private ResponseEntity<ResponseWrapper<?>> fallback(String message) {
         return ResponseEntity
                 .status(HttpStatus.SERVICE_UNAVAILABLE)
-                .body(new ResponseWrapper(message, HttpStatus.SERVICE_UNAVAILABLE));
+                .body(new ResponseWrapper<>(message, HttpStatus.SERVICE_UNAVAILABLE));
     }
 }
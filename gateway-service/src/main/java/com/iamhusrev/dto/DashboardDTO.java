@@ -0,0 +1,26 @@
+package com.iamhusrev.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Everything the UI needs on its landing page. Sections whose backend was unavailable are null and
+ * listed in {@code unavailable}.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class DashboardDTO {
+
+    private JsonNode user;
+    private JsonNode projects;
+    private JsonNode pendingTasks;
+    private JsonNode archivedTasks;
+    private List<String> unavailable;
+}
@@ -0,0 +1,90 @@
+package com.iamhusrev.filter;
+
+import com.iamhusrev.ratelimit.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sheds load with an immediate 503 once a route has as many requests in flight as its adaptive
+ * limit allows, instead of letting them queue in downstream Tomcat and Hikari pools. Shed requests
+ * are marked with {@link #LOAD_SHED_ATTR} so BudgetedRetry does not send them straight back.
+ */
+@Component
+public class AdaptiveConcurrencyLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<AdaptiveConcurrencyLimitGatewayFilterFactory.Config> {
+
+    public static final String LOAD_SHED_ATTR = AdaptiveConcurrencyLimitGatewayFilterFactory.class.getName() + ".loadShed";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimitGatewayFilterFactory(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route == null ? "unknown" : route.getId();
+            AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(routeId, id -> new AdaptiveConcurrencyLimiter(id,
+                    config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                    config.getLatencyThreshold().toNanos(), config.getBackoffRatio(), meterRegistry));
+
+            if (!limiter.tryAcquire()) {
+                return serviceUnavailable(exchange);
+            }
+
+            long start = System.nanoTime();
+            return chain.filter(exchange).doFinally(signal -> {
+                HttpStatusCode status = exchange.getResponse().getStatusCode();
+                boolean failed = signal == SignalType.ON_ERROR || (status != null && status.is5xxServerError());
+                limiter.release(System.nanoTime() - start, failed);
+            });
+        };
+    }
+
+    private Mono<Void> serviceUnavailable(ServerWebExchange exchange) {
+        exchange.getAttributes().put(LOAD_SHED_ATTR, Boolean.TRUE);
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        String body = "{\"success\":false,\"message\":\"Service is overloaded, please retry shortly\",\"code\":503}";
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        private int initialLimit = 20;
+        private int minLimit = 5;
+        private int maxLimit = 200;
+        // Responses slower than this count as congestion and shrink the limit.
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,74 @@
+package com.iamhusrev.filter;
+
+import com.iamhusrev.security.SecurityConstants;
+import com.iamhusrev.util.RetryBudgetRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.RetryGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The stock Retry filter, limited by a per-route retry budget: retries may only use up a fraction
+ * of the route's request volume. Methods that are not idempotent are retried only when the client
+ * sent an Idempotency-Key. Requests the route shed for overload are never retried.
+ */
+@Component
+public class BudgetedRetryGatewayFilterFactory extends RetryGatewayFilterFactory {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final RetryBudgetRegistry budgets;
+
+    public BudgetedRetryGatewayFilterFactory(MeterRegistry meterRegistry,
+                                             @Value("${gateway.retry-budget.ratio:0.2}") double ratio,
+                                             @Value("${gateway.retry-budget.capacity:20}") int capacity) {
+        this.budgets = new RetryBudgetRegistry(meterRegistry, "gateway.retry", "route", ratio, capacity);
+    }
+
+    // The Retry filter re-subscribes to the rest of the chain for each retry, so every subscription after
+    // the first is a retry that was decided on; that is where it is paid for.
+    @Override
+    public GatewayFilter apply(RetryConfig retryConfig) {
+        GatewayFilter retrying = super.apply(retryConfig);
+        return (exchange, chain) -> {
+            String routeId = routeId(exchange);
+            budgets.recordRequest(routeId);
+            AtomicBoolean firstAttempt = new AtomicBoolean(true);
+            return retrying.filter(exchange, attempt -> Mono.defer(() -> {
+                if (!firstAttempt.compareAndSet(true, false)) {
+                    budgets.tryRetry(routeId);
+                }
+                return chain.filter(attempt);
+            }));
+        };
+    }
+
+    // Asked before every retry decision (including after successful responses), so it only peeks at the budget.
+    @Override
+    public boolean exceedsMaxIterations(ServerWebExchange exchange, RetryConfig retryConfig) {
+        return super.exceedsMaxIterations(exchange, retryConfig)
+                || exchange.getAttribute(AdaptiveConcurrencyLimitGatewayFilterFactory.LOAD_SHED_ATTR) != null
+                || !isRetryable(exchange.getRequest())
+                || !budgets.canRetry(routeId(exchange));
+    }
+
+    private static boolean isRetryable(ServerHttpRequest request) {
+        return IDEMPOTENT_METHODS.contains(request.getMethod())
+                || request.getHeaders().containsKey(SecurityConstants.HEADER_IDEMPOTENCY_KEY);
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? "unknown" : route.getId();
+    }
+}
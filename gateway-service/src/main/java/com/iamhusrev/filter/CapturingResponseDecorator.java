@@ -0,0 +1,47 @@
+package com.iamhusrev.filter;
+
+import com.iamhusrev.cache.CachedResponse;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+/**
+ * Buffers a 200 response body so it can be handed to {@code onOk} before being written through unchanged.
+ * Other statuses are streamed as-is.
+ */
+class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    private final Consumer<CachedResponse> onOk;
+
+    CapturingResponseDecorator(ServerHttpResponse delegate, Consumer<CachedResponse> onOk) {
+        super(delegate);
+        this.onOk = onOk;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        if (getStatusCode() != HttpStatus.OK) {
+            return super.writeWith(body);
+        }
+        return DataBufferUtils.join(Flux.from(body)).flatMap(joined -> {
+            byte[] bytes = new byte[joined.readableByteCount()];
+            joined.read(bytes);
+            DataBufferUtils.release(joined);
+            onOk.accept(new CachedResponse(getHeaders().getContentType(), bytes));
+            return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+        });
+    }
+
+    static Mono<Void> write(ServerHttpResponse response, CachedResponse cached) {
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(cached.contentType());
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+}
@@ -0,0 +1,223 @@
+package com.iamhusrev.filter;
+
+import com.iamhusrev.metrics.GatewayMetricsFilter;
+import com.iamhusrev.util.RetryBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.ReactiveDiscoveryClient;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Hedged GETs for the routes in gateway.hedging.routes. The request goes to one lb:// instance; if it
+ * hasn't answered within the route's recent latency percentile (never less than min-delay), a second
+ * attempt goes to a different instance and the first answer wins, the other is cancelled. Hedges are
+ * paid from a budget that earns budget-ratio of a hedge per request. Routes with fewer than two
+ * instances are left to the normal load-balanced path. Both attempts use the gateway's HttpClient and
+ * header filters, and the winner's body is streamed by NettyWriteResponseFilter.
+ */
+@Component
+public class HedgedRequestFilter implements GlobalFilter, Ordered {
+
+    private final ReactiveDiscoveryClient discoveryClient;
+    private final HttpClient httpClient;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final MeterRegistry meterRegistry;
+    private final List<String> routes;
+    private final double percentile;
+    private final Duration minDelay;
+    private final Duration responseTimeout;
+    private final double budgetRatio;
+    private final int budgetCapacity;
+    private final int windowSize;
+    private final Map<String, RouteHedging> hedging = new ConcurrentHashMap<>();
+
+    public HedgedRequestFilter(ReactiveDiscoveryClient discoveryClient, HttpClient httpClient,
+                               ObjectProvider<List<HttpHeadersFilter>> headersFilters, MeterRegistry meterRegistry,
+                               @Value("${gateway.hedging.routes:}") List<String> routes,
+                               @Value("${gateway.hedging.percentile:0.95}") double percentile,
+                               @Value("${gateway.hedging.min-delay:50ms}") Duration minDelay,
+                               @Value("${gateway.hedging.budget-ratio:0.1}") double budgetRatio,
+                               @Value("${gateway.hedging.budget-capacity:10}") int budgetCapacity,
+                               @Value("${gateway.hedging.window-size:1000}") int windowSize,
+                               @Value("${spring.cloud.gateway.httpclient.response-timeout:30s}") Duration responseTimeout) {
+        this.discoveryClient = discoveryClient;
+        this.httpClient = httpClient;
+        this.headersFilters = headersFilters;
+        this.meterRegistry = meterRegistry;
+        this.routes = routes;
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.budgetRatio = budgetRatio;
+        this.budgetCapacity = budgetCapacity;
+        this.windowSize = windowSize;
+        this.responseTimeout = responseTimeout;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        URI url = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+        if (route == null || url == null || !"lb".equals(url.getScheme())
+                || exchange.getRequest().getMethod() != HttpMethod.GET || !routes.contains(route.getId())) {
+            return chain.filter(exchange);
+        }
+
+        RouteHedging routeHedging = hedging.computeIfAbsent(route.getId(), this::newRouteHedging);
+        return discoveryClient.getInstances(url.getHost()).collectList().flatMap(instances -> {
+            if (instances.size() < 2) {
+                return chain.filter(exchange);
+            }
+            List<ServiceInstance> shuffled = new ArrayList<>(instances);
+            Collections.shuffle(shuffled);
+            ServerWebExchangeUtils.setAlreadyRouted(exchange);
+            return hedged(exchange, url, shuffled.get(0), shuffled.get(1), routeHedging);
+        });
+    }
+
+    private Mono<Void> hedged(ServerWebExchange exchange, URI url, ServiceInstance primary,
+                              ServiceInstance secondary, RouteHedging routeHedging) {
+        routeHedging.budget().deposit();
+        long start = System.nanoTime();
+        Duration delay = Duration.ofNanos(Math.max(minDelay.toNanos(), routeHedging.latency().percentileNanos()));
+        HttpHeaders requestHeaders = requestHeaders(exchange);
+        AtomicBoolean answered = new AtomicBoolean();
+
+        return race(call(exchange, requestHeaders, url, primary, answered), delay, () -> routeHedging.budget().tryWithdraw(), () -> {
+            routeHedging.fired().increment();
+            return call(exchange, requestHeaders, url, secondary, answered);
+        }).doOnNext(hedgeWon -> {
+            long elapsed = System.nanoTime() - start;
+            routeHedging.latency().record(elapsed);
+            exchange.getAttributes().put(GatewayMetricsFilter.DOWNSTREAM_NANOS_ATTR, elapsed);
+            if (hedgeWon) {
+                routeHedging.won().increment();
+            }
+        }).then();
+    }
+
+    /**
+     * Emits true when the hedge answered first, false when the primary did. Only an attempt that got the
+     * response emits: one that lost completes empty, and so does the hedge when {@code mayHedge} refuses
+     * to pay for it, leaving the primary to finish on its own.
+     */
+    static <T> Mono<Boolean> race(Mono<T> primary, Duration delay, BooleanSupplier mayHedge,
+                                  Supplier<Mono<T>> hedge) {
+        Mono<Boolean> first = primary.map(response -> false);
+        Mono<Boolean> second = Mono.delay(delay)
+                .filter(tick -> mayHedge.getAsBoolean())
+                .flatMap(tick -> hedge.get())
+                .map(response -> true);
+        return Mono.firstWithValue(first, second);
+    }
+
+    /**
+     * Sends one attempt and, if it is the first to get response headers, hands its connection to
+     * NettyWriteResponseFilter the same way NettyRoutingFilter does, so the body is streamed rather
+     * than buffered. Completes empty when the attempt lost, after closing its connection.
+     */
+    private Mono<HttpClientResponse> call(ServerWebExchange exchange, HttpHeaders requestHeaders, URI url,
+                                          ServiceInstance instance, AtomicBoolean answered) {
+        URI target = UriComponentsBuilder.fromUri(url)
+                .scheme(instance.isSecure() ? "https" : "http")
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(true)
+                .toUri();
+        return httpClient.headers(headers -> requestHeaders.forEach(headers::set))
+                .get()
+                .uri(target)
+                .responseConnection((response, connection) -> {
+                    if (!answered.compareAndSet(false, true)) {
+                        connection.dispose();
+                        return Mono.<HttpClientResponse>empty();
+                    }
+                    exchange.getAttributes().put(ServerWebExchangeUtils.CLIENT_RESPONSE_ATTR, response);
+                    exchange.getAttributes().put(ServerWebExchangeUtils.CLIENT_RESPONSE_CONN_ATTR, connection);
+                    writeHeaders(exchange, response);
+                    return Mono.just(response);
+                })
+                .next()
+                .timeout(responseTimeout);
+    }
+
+    private HttpHeaders requestHeaders(ServerWebExchange exchange) {
+        HttpHeaders filtered = HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(List::of), exchange);
+        if (!Boolean.TRUE.equals(exchange.getAttribute(ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE))) {
+            filtered.remove(HttpHeaders.HOST);
+        }
+        return filtered;
+    }
+
+    private void writeHeaders(ServerWebExchange exchange, HttpClientResponse downstream) {
+        HttpHeaders headers = new HttpHeaders();
+        downstream.responseHeaders().forEach(entry -> headers.add(entry.getKey(), entry.getValue()));
+        String contentType = headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        if (StringUtils.hasLength(contentType)) {
+            exchange.getAttributes().put(ServerWebExchangeUtils.ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR, contentType);
+        }
+        HttpHeaders filtered = HttpHeadersFilter.filter(headersFilters.getIfAvailable(List::of), headers, exchange,
+                HttpHeadersFilter.Type.RESPONSE);
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(downstream.status().code()));
+        if (!filtered.containsKey(HttpHeaders.TRANSFER_ENCODING) && filtered.containsKey(HttpHeaders.CONTENT_LENGTH)) {
+            response.getHeaders().remove(HttpHeaders.TRANSFER_ENCODING);
+        }
+        exchange.getAttributes().put(ServerWebExchangeUtils.CLIENT_RESPONSE_HEADER_NAMES, filtered.keySet());
+        response.getHeaders().addAll(filtered);
+    }
+
+    private RouteHedging newRouteHedging(String routeId) {
+        LatencyWindow latency = new LatencyWindow(windowSize, percentile, minDelay.toNanos());
+        Gauge.builder("gateway.hedge.delay", latency, window -> window.percentileNanos() / 1_000_000.0)
+                .description("Current hedge delay in milliseconds")
+                .tag("route", routeId)
+                .register(meterRegistry);
+        return new RouteHedging(latency, new RetryBudget(budgetRatio, budgetCapacity),
+                Counter.builder("gateway.hedge.fired").description("Second attempts sent")
+                        .tag("route", routeId).register(meterRegistry),
+                Counter.builder("gateway.hedge.won").description("Requests answered by the second attempt")
+                        .tag("route", routeId).register(meterRegistry));
+    }
+
+    // After the route filters (RewritePath has produced the final lb:// URL), before load balancing.
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER - 1;
+    }
+
+    private record RouteHedging(LatencyWindow latency, RetryBudget budget, Counter fired, Counter won) {
+    }
+}
@@ -1,8 +1,8 @@
 package com.iamhusrev.filter;
 
-import com.iamhusrev.security.JwtUtil;
+import com.iamhusrev.cache.GatewayIdentity;
+import com.iamhusrev.cache.JwtClaimsCache;
 import com.iamhusrev.security.SecurityConstants;
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
@@ -26,7 +26,7 @@ import java.util.List;
 @Slf4j
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
-    private final JwtUtil jwtUtil;
+    private final JwtClaimsCache jwtClaimsCache;
 
     private static final List<String> OPEN_PATHS = List.of(
             "/iamhusrev/dev/auth/",
@@ -52,18 +52,14 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         String token = authHeader.substring(SecurityConstants.TOKEN_PREFIX.length());
 
         try {
-            Claims claims = jwtUtil.validateToken(token);
-
-            Long userId = jwtUtil.getUserId(claims);
-            String userName = jwtUtil.getUserName(claims);
-            Long organizationId = jwtUtil.getOrganizationId(claims);
-            String role = jwtUtil.getRole(claims);
+            GatewayIdentity identity = jwtClaimsCache.resolve(token);
+            exchange.getAttributes().put(GatewayIdentity.EXCHANGE_ATTRIBUTE, identity);
 
             ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
-                    .header(SecurityConstants.HEADER_USER_ID, String.valueOf(userId))
-                    .header(SecurityConstants.HEADER_USER_NAME, userName)
-                    .header(SecurityConstants.HEADER_ORGANIZATION_ID, String.valueOf(organizationId))
-                    .header(SecurityConstants.HEADER_USER_ROLE, role)
+                    .header(SecurityConstants.HEADER_USER_ID, identity.userId())
+                    .header(SecurityConstants.HEADER_USER_NAME, identity.userName())
+                    .header(SecurityConstants.HEADER_ORGANIZATION_ID, identity.organizationId())
+                    .header(SecurityConstants.HEADER_USER_ROLE, identity.role())
                     .headers(h -> h.remove(HttpHeaders.AUTHORIZATION))
                     .build();
 
@@ -74,9 +70,12 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         }
     }
 
+    // Ahead of every filter that reads the X-User-* / X-Organization-Id headers it sets.
+    public static final int ORDER = -100;
+
     @Override
     public int getOrder() {
-        return -1;
+        return ORDER;
     }
 
     private boolean isOpenPath(String path) {
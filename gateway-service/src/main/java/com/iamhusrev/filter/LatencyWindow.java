@@ -0,0 +1,41 @@
+package com.iamhusrev.filter;
+
+import java.util.Arrays;
+
+/**
+ * The last {@code size} latencies of a route and a percentile over them, recomputed every
+ * {@code RECOMPUTE_EVERY} samples so reading it stays a volatile load.
+ */
+class LatencyWindow {
+
+    private static final int RECOMPUTE_EVERY = 50;
+
+    private final long[] samples;
+    private final double percentile;
+    private int next;
+    private int count;
+    private int sinceRecompute;
+    private volatile long percentileNanos;
+
+    LatencyWindow(int size, double percentile, long initialNanos) {
+        this.samples = new long[size];
+        this.percentile = percentile;
+        this.percentileNanos = initialNanos;
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        count = Math.min(count + 1, samples.length);
+        if (++sinceRecompute >= RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            percentileNanos = sorted[Math.max(0, (int) Math.ceil(percentile * count) - 1)];
+        }
+    }
+
+    long percentileNanos() {
+        return percentileNanos;
+    }
+}
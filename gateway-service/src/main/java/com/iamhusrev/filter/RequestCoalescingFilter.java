@@ -0,0 +1,100 @@
+package com.iamhusrev.filter;
+
+import com.iamhusrev.cache.CachedResponse;
+import com.iamhusrev.security.SecurityConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight for GETs: while a downstream call for the same method, path, organization and role is
+ * in flight, identical requests wait for its 200 response instead of issuing their own. If the leading
+ * call ends any other way, the waiting requests go downstream themselves.
+ */
+@Component
+public class RequestCoalescingFilter implements GlobalFilter, Ordered {
+
+    public static final String COALESCED_HEADER = "X-Coalesced";
+
+    private final List<String> routes;
+    private final Map<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter collapsed;
+    private final Counter leaders;
+
+    public RequestCoalescingFilter(MeterRegistry meterRegistry,
+                                   @Value("${gateway.coalescing.routes:}") List<String> routes) {
+        this.routes = routes;
+        this.collapsed = Counter.builder("gateway.requests.coalesced")
+                .description("GET requests answered by another request's in-flight downstream call")
+                .register(meterRegistry);
+        this.leaders = Counter.builder("gateway.requests.coalesce.leaders")
+                .description("GET requests that made the downstream call for a coalescing key")
+                .register(meterRegistry);
+        Gauge.builder("gateway.requests.coalesce.in-flight", inFlight, Map::size)
+                .description("Coalescing keys with a downstream call in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || request.getMethod() != HttpMethod.GET || !routes.contains(route.getId())) {
+            return chain.filter(exchange);
+        }
+
+        // Role rather than user: services authorize by role, so same-role callers get the same answer.
+        String key = route.getId() + '|'
+                + request.getHeaders().getFirst(SecurityConstants.HEADER_ORGANIZATION_ID) + '|'
+                + request.getHeaders().getFirst(SecurityConstants.HEADER_USER_ROLE) + '|'
+                + request.getURI().getRawPath() + (request.getURI().getRawQuery() == null ? "" : "?" + request.getURI().getRawQuery());
+
+        Sinks.One<CachedResponse> result = Sinks.one();
+        Mono<CachedResponse> shared = result.asMono();
+        Mono<CachedResponse> existing = inFlight.putIfAbsent(key, shared);
+
+        if (existing != null) {
+            return existing
+                    .flatMap(response -> {
+                        collapsed.increment();
+                        exchange.getResponse().getHeaders().set(COALESCED_HEADER, "true");
+                        return CapturingResponseDecorator.write(exchange.getResponse(), response);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> chain.filter(exchange)));
+        }
+
+        leaders.increment();
+        CapturingResponseDecorator capturing = new CapturingResponseDecorator(exchange.getResponse(), response -> {
+            inFlight.remove(key, shared);
+            result.tryEmitValue(response);
+        });
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, shared);
+                    result.tryEmitEmpty();
+                });
+    }
+
+    // Inside ResponseCacheFilter (cache hits never reach here) and before NettyWriteResponseFilter writes.
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+}
@@ -0,0 +1,59 @@
+package com.iamhusrev.filter;
+
+import com.iamhusrev.security.SecurityConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Stamps the absolute time after which the gateway stops waiting (its response timeout) as
+ * X-Request-Deadline, and the time left until then as X-Request-Timeout-Ms, so services can abandon
+ * DB queries and Feign calls nobody will read. Services go by the relative value, which doesn't depend
+ * on their clocks agreeing with the gateway's. A client may ask for an earlier deadline, never a later one.
+ */
+@Component
+public class RequestDeadlineFilter implements GlobalFilter, Ordered {
+
+    private final long budgetMillis;
+
+    public RequestDeadlineFilter(@Value("${spring.cloud.gateway.httpclient.response-timeout:30s}") Duration responseTimeout) {
+        this.budgetMillis = responseTimeout.toMillis();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long now = System.currentTimeMillis();
+        long deadline = now + budgetMillis;
+        String requested = exchange.getRequest().getHeaders().getFirst(SecurityConstants.HEADER_REQUEST_DEADLINE);
+        if (requested != null) {
+            try {
+                deadline = Math.min(deadline, Long.parseLong(requested));
+            } catch (NumberFormatException ignored) {
+                // Malformed client value: fall back to the gateway's own budget.
+            }
+        }
+
+        String value = String.valueOf(deadline);
+        String timeout = String.valueOf(Math.max(0, deadline - now));
+        ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.set(SecurityConstants.HEADER_REQUEST_DEADLINE, value);
+                    headers.set(SecurityConstants.HEADER_REQUEST_TIMEOUT, timeout);
+                })
+                .build();
+        return chain.filter(exchange.mutate().request(mutatedRequest).build());
+    }
+
+    // Right after authentication, so every route (and each retry of it) shares the same deadline.
+    @Override
+    public int getOrder() {
+        return JwtAuthenticationFilter.ORDER + 1;
+    }
+}
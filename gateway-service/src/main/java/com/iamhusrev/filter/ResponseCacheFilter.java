@@ -0,0 +1,63 @@
+package com.iamhusrev.filter;
+
+import com.iamhusrev.cache.CachedResponse;
+import com.iamhusrev.cache.ResponseCache;
+import com.iamhusrev.security.SecurityConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    public static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCache responseCache;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        if (route == null || request.getMethod() != HttpMethod.GET || !responseCache.isCached(route.getId())) {
+            return chain.filter(exchange);
+        }
+
+        String routeId = route.getId();
+        String key = ResponseCache.key(routeId,
+                request.getHeaders().getFirst(SecurityConstants.HEADER_ORGANIZATION_ID),
+                request.getHeaders().getFirst(SecurityConstants.HEADER_USER_ID),
+                request.getURI().getRawPath() + (request.getURI().getRawQuery() == null ? "" : "?" + request.getURI().getRawQuery()));
+
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            exchange.getResponse().getHeaders().set(CACHE_HEADER, "HIT");
+            return CapturingResponseDecorator.write(exchange.getResponse(), cached);
+        }
+
+        long generation = responseCache.generation(routeId);
+        exchange.getResponse().getHeaders().set(CACHE_HEADER, "MISS");
+        ServerHttpResponse caching = new CapturingResponseDecorator(exchange.getResponse(),
+                response -> responseCache.put(routeId, generation, key, response));
+        return chain.filter(exchange.mutate().response(caching).build());
+    }
+
+    // Must wrap the response before NettyWriteResponseFilter writes it, and run after JwtAuthenticationFilter.
+    // Ahead of RequestCoalescingFilter so cache hits never join an in-flight call.
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+}
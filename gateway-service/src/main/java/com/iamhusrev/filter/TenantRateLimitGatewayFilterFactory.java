@@ -0,0 +1,112 @@
+package com.iamhusrev.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iamhusrev.metrics.OrganizationBuckets;
+import com.iamhusrev.ratelimit.RateLimitProperties;
+import com.iamhusrev.ratelimit.TokenBucket;
+import com.iamhusrev.security.SecurityConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory token-bucket rate limiting per route and organization (X-Organization-Id, taken from the
+ * JWT claim). Throttled requests get 429 with Retry-After and are counted per route and organization
+ * bucket. Idle buckets are dropped after ten minutes.
+ */
+@Component
+public class TenantRateLimitGatewayFilterFactory
+        extends AbstractGatewayFilterFactory<TenantRateLimitGatewayFilterFactory.Config> {
+
+    private static final String ANONYMOUS = "anonymous";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final OrganizationBuckets organizationBuckets;
+    private final Cache<String, TokenBucket> buckets = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    public TenantRateLimitGatewayFilterFactory(RateLimitProperties properties, MeterRegistry meterRegistry,
+                                               OrganizationBuckets organizationBuckets) {
+        super(Config.class);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.organizationBuckets = organizationBuckets;
+    }
+
+    @Override
+    public List<String> shortcutFieldOrder() {
+        return List.of("replenishRate", "burstCapacity");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+            String routeId = route == null ? "unknown" : route.getId();
+            String organizationId = exchange.getRequest().getHeaders().getFirst(SecurityConstants.HEADER_ORGANIZATION_ID);
+            String tenant = organizationId == null ? ANONYMOUS : organizationId;
+
+            TokenBucket bucket = buckets.get(routeId + '|' + tenant, key -> newBucket(config, tenant));
+            long waitNanos = bucket.tryConsume();
+            if (waitNanos == 0) {
+                return chain.filter(exchange);
+            }
+
+            Counter.builder("gateway.ratelimit.throttled")
+                    .description("Requests rejected with 429 by the tenant rate limiter")
+                    .tag("route", routeId)
+                    .tag("org", organizationBuckets.bucket(organizationId))
+                    .register(meterRegistry)
+                    .increment();
+            return tooManyRequests(exchange, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+        };
+    }
+
+    private TokenBucket newBucket(Config config, String tenant) {
+        RateLimitProperties.Limit override = properties.getTenants().get(tenant);
+        if (override != null) {
+            return new TokenBucket(override.getReplenishRate(), override.getBurstCapacity());
+        }
+        return new TokenBucket(config.getReplenishRate(), config.getBurstCapacity());
+    }
+
+    private Mono<Void> tooManyRequests(ServerWebExchange exchange, long retryAfterSeconds) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+
+        String body = "{\"success\":false,\"message\":\"Too many requests for this organization\",\"code\":429}";
+        DataBuffer buffer = response.bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    @Getter
+    @Setter
+    public static class Config {
+        // Tokens added per second, and the most that can accumulate for a burst.
+        private double replenishRate = 50;
+        private double burstCapacity = 100;
+    }
+}
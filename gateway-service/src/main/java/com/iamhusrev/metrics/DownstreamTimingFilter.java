@@ -0,0 +1,29 @@
+package com.iamhusrev.metrics;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyRoutingFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Wraps NettyRoutingFilter, which completes once the downstream response headers arrive, and leaves
+ * that duration for GatewayMetricsFilter. Each retry attempt overwrites it, so it reflects the last attempt.
+ */
+@Component
+public class DownstreamTimingFilter implements GlobalFilter, Ordered {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal ->
+                exchange.getAttributes().put(GatewayMetricsFilter.DOWNSTREAM_NANOS_ATTR, System.nanoTime() - start));
+    }
+
+    @Override
+    public int getOrder() {
+        return NettyRoutingFilter.ORDER - 1;
+    }
+}
@@ -0,0 +1,116 @@
+package com.iamhusrev.metrics;
+
+import com.iamhusrev.cache.GatewayIdentity;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+
+/**
+ * Per-request gateway timings, recorded as histograms tagged by route and outcome:
+ * <ul>
+ *   <li>{@code gateway.requests} - whole time spent in the gateway filter chain</li>
+ *   <li>{@code gateway.downstream} - time until the downstream service returned its response headers</li>
+ *   <li>{@code gateway.overhead} - the difference, i.e. time spent in gateway filters</li>
+ * </ul>
+ * {@code gateway.organization.requests} adds the organization bucket and whether the circuit-breaker
+ * fallback answered, as a plain timer (count, total, max) so those tags don't multiply histogram buckets.
+ * Organizations are hashed into a fixed number of buckets (see OrganizationBuckets).
+ */
+@Component
+public class GatewayMetricsFilter implements GlobalFilter, Ordered {
+
+    public static final String DOWNSTREAM_NANOS_ATTR = GatewayMetricsFilter.class.getName() + ".downstreamNanos";
+
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+    private final SloTracker sloTracker;
+    private final OrganizationBuckets organizationBuckets;
+
+    public GatewayMetricsFilter(MeterRegistry meterRegistry, SloTracker sloTracker,
+                                OrganizationBuckets organizationBuckets) {
+        this.meterRegistry = meterRegistry;
+        this.sloTracker = sloTracker;
+        this.organizationBuckets = organizationBuckets;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long start = System.nanoTime();
+        return chain.filter(exchange).doFinally(signal -> record(exchange, signal, System.nanoTime() - start));
+    }
+
+    private void record(ServerWebExchange exchange, SignalType signal, long totalNanos) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String routeId = route == null ? "none" : route.getId();
+        boolean fallback = exchange.getAttribute(ServerWebExchangeUtils.CIRCUITBREAKER_EXECUTION_EXCEPTION_ATTR) != null;
+        String outcome = outcome(signal, exchange.getResponse().getStatusCode());
+        String[] tags = {"route", routeId, "outcome", outcome};
+
+        histogram("gateway.requests", tags).record(Duration.ofNanos(totalNanos));
+        Timer.builder("gateway.organization.requests")
+                .tags(tags)
+                .tags("org", organizationBucket(exchange), "fallback", String.valueOf(fallback))
+                .register(meterRegistry)
+                .record(Duration.ofNanos(totalNanos));
+
+        Long downstreamNanos = exchange.getAttribute(DOWNSTREAM_NANOS_ATTR);
+        if (downstreamNanos != null) {
+            histogram("gateway.downstream", tags).record(Duration.ofNanos(downstreamNanos));
+            histogram("gateway.overhead", tags).record(Duration.ofNanos(Math.max(0, totalNanos - downstreamNanos)));
+        }
+
+        if (route != null) {
+            sloTracker.record(routeId, totalNanos, fallback || "SERVER_ERROR".equals(outcome));
+        }
+    }
+
+    private Timer histogram(String name, String[] tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private String organizationBucket(ServerWebExchange exchange) {
+        GatewayIdentity identity = exchange.getAttribute(GatewayIdentity.EXCHANGE_ATTRIBUTE);
+        return organizationBuckets.bucket(identity == null ? null : identity.organizationId());
+    }
+
+    private static String outcome(SignalType signal, HttpStatusCode status) {
+        if (signal == SignalType.ON_ERROR) {
+            return "SERVER_ERROR";
+        }
+        if (signal == SignalType.CANCEL) {
+            return "CANCELLED";
+        }
+        if (status == null) {
+            return "UNKNOWN";
+        }
+        if (status.is5xxServerError()) {
+            return "SERVER_ERROR";
+        }
+        if (status.is4xxClientError()) {
+            return "CLIENT_ERROR";
+        }
+        return "SUCCESS";
+    }
+
+    // Outermost, so the timing covers every other filter including authentication.
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,25 @@
+package com.iamhusrev.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hashes organization ids into a fixed number of buckets for the {@code org} metric tag, so tag
+ * cardinality stays bounded however many organizations there are.
+ */
+@Component
+public class OrganizationBuckets {
+
+    private final int buckets;
+
+    public OrganizationBuckets(@Value("${gateway.metrics.organization-buckets:16}") int buckets) {
+        this.buckets = buckets;
+    }
+
+    public String bucket(String organizationId) {
+        if (organizationId == null) {
+            return "none";
+        }
+        return "b" + Math.floorMod(organizationId.hashCode(), buckets);
+    }
+}
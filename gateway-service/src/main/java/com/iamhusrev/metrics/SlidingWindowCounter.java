@@ -0,0 +1,54 @@
+package com.iamhusrev.metrics;
+
+import java.time.Duration;
+
+/**
+ * Good/total request counts in fixed time slots covering the longest burn-rate window, so shorter
+ * windows can be summed from the same slots.
+ */
+class SlidingWindowCounter {
+
+    private final long slotMillis;
+    private final long[] epochs;
+    private final long[] good;
+    private final long[] total;
+
+    SlidingWindowCounter(Duration slot, Duration span) {
+        this.slotMillis = slot.toMillis();
+        int slots = (int) (span.toMillis() / slotMillis);
+        this.epochs = new long[slots];
+        this.good = new long[slots];
+        this.total = new long[slots];
+    }
+
+    synchronized void record(boolean isGood) {
+        long epoch = System.currentTimeMillis() / slotMillis;
+        int slot = (int) (epoch % epochs.length);
+        if (epochs[slot] != epoch) {
+            epochs[slot] = epoch;
+            good[slot] = 0;
+            total[slot] = 0;
+        }
+        total[slot]++;
+        if (isGood) {
+            good[slot]++;
+        }
+    }
+
+    /**
+     * Fraction of bad requests over the window, or 0 when there was no traffic.
+     */
+    synchronized double errorRate(Duration window) {
+        long now = System.currentTimeMillis() / slotMillis;
+        long oldest = now - Math.min(epochs.length, window.toMillis() / slotMillis) + 1;
+        long goodSum = 0;
+        long totalSum = 0;
+        for (int slot = 0; slot < epochs.length; slot++) {
+            if (epochs[slot] >= oldest && epochs[slot] <= now) {
+                goodSum += good[slot];
+                totalSum += total[slot];
+            }
+        }
+        return totalSum == 0 ? 0 : (double) (totalSum - goodSum) / totalSum;
+    }
+}
@@ -0,0 +1,32 @@
+package com.iamhusrev.metrics;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Latency/availability objectives per route. A request is good when it did not end in a 5xx or a
+ * fallback and finished within {@code latencyThreshold}; {@code target} is the required good fraction.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.slo")
+@Getter
+@Setter
+public class SloProperties {
+
+    private List<Objective> objectives = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Objective {
+        private String name;
+        private String route;
+        private Duration latencyThreshold = Duration.ofMillis(500);
+        private double target = 0.99;
+    }
+}
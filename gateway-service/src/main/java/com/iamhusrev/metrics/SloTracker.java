@@ -0,0 +1,57 @@
+package com.iamhusrev.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Error-budget burn rate per objective over 5m, 1h and 6h windows (the usual multi-window alerting pairs).
+ * Burn rate = observed error rate / allowed error rate; 1 spends the budget exactly over the SLO period.
+ */
+@Component
+public class SloTracker {
+
+    private static final Duration SLOT = Duration.ofSeconds(10);
+    private static final List<Duration> WINDOWS = List.of(Duration.ofMinutes(5), Duration.ofHours(1), Duration.ofHours(6));
+
+    private final List<Tracked> tracked;
+
+    public SloTracker(SloProperties properties, MeterRegistry meterRegistry) {
+        this.tracked = properties.getObjectives().stream().map(objective -> {
+            Tracked t = new Tracked(objective, new SlidingWindowCounter(SLOT, WINDOWS.get(WINDOWS.size() - 1)));
+            Gauge.builder("gateway.slo.target", objective, SloProperties.Objective::getTarget)
+                    .tag("objective", objective.getName())
+                    .register(meterRegistry);
+            for (Duration window : WINDOWS) {
+                Gauge.builder("gateway.slo.burn.rate", t, x -> x.burnRate(window))
+                        .description("Error budget burn rate")
+                        .tag("objective", objective.getName())
+                        .tag("window", format(window))
+                        .register(meterRegistry);
+            }
+            return t;
+        }).toList();
+    }
+
+    public void record(String routeId, long latencyNanos, boolean failed) {
+        for (Tracked t : tracked) {
+            if (t.objective().getRoute().equals(routeId)) {
+                t.counter().record(!failed && latencyNanos <= t.objective().getLatencyThreshold().toNanos());
+            }
+        }
+    }
+
+    private static String format(Duration window) {
+        return window.toHours() > 0 ? window.toHours() + "h" : window.toMinutes() + "m";
+    }
+
+    private record Tracked(SloProperties.Objective objective, SlidingWindowCounter counter) {
+
+        double burnRate(Duration window) {
+            return counter.errorRate(window) / (1 - objective.getTarget());
+        }
+    }
+}
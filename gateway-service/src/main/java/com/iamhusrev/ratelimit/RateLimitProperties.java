@@ -0,0 +1,29 @@
+package com.iamhusrev.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-organization overrides for the TenantRateLimit route filter, keyed by organization id.
+ * An override replaces the route's own limits for that organization on every rate-limited route.
+ */
+@Component
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private Map<String, Limit> tenants = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private double replenishRate;
+        private double burstCapacity;
+    }
+}
@@ -0,0 +1,100 @@
+package com.iamhusrev.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.iamhusrev.cache.GatewayIdentity;
+import com.iamhusrev.dto.DashboardDTO;
+import com.iamhusrev.security.SecurityConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.circuitbreaker.ReactiveCircuitBreakerFactory;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads the dashboard sections from user, project and task services in parallel. Each downstream has a
+ * dashboard breaker of its own, so an open breaker only blanks its own section and dashboard traffic
+ * never trips the breakers of the gateway routes.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+    private final WebClient webClient;
+    private final ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory;
+
+    public DashboardService(WebClient.Builder webClientBuilder, ReactorLoadBalancerExchangeFilterFunction loadBalancer,
+                            ReactiveCircuitBreakerFactory<?, ?> circuitBreakerFactory) {
+        this.webClient = webClientBuilder.clone().filter(loadBalancer).build();
+        this.circuitBreakerFactory = circuitBreakerFactory;
+    }
+
+    public Mono<DashboardDTO> load(GatewayIdentity identity) {
+        String userName = identity.userName();
+        return Mono.zip(
+                fetch(identity, "dashboardUserBreaker", "http://user-service/api/user/{userName}", userName,
+                        NullNode.getInstance()),
+                fetch(identity, "dashboardProjectBreaker", "http://project-service/api/project/details/{userName}", userName,
+                        JsonNodeFactory.instance.arrayNode()),
+                fetch(identity, "dashboardTaskBreaker", "http://task-service/api/task/employee/pending-tasks/{userName}", userName,
+                        JsonNodeFactory.instance.arrayNode()),
+                fetch(identity, "dashboardTaskBreaker", "http://task-service/api/task/employee/archive/{userName}", userName,
+                        JsonNodeFactory.instance.arrayNode())
+        ).map(sections -> {
+            List<String> unavailable = new ArrayList<>();
+            JsonNode user = section(sections.getT1(), "user", unavailable);
+            JsonNode projects = section(sections.getT2(), "projects", unavailable);
+            JsonNode pendingTasks = section(sections.getT3(), "pendingTasks", unavailable);
+            JsonNode archivedTasks = section(sections.getT4(), "archivedTasks", unavailable);
+            return new DashboardDTO(user, projects, pendingTasks, archivedTasks, unavailable);
+        });
+    }
+
+    /**
+     * A 4xx means the section does not apply to this user (e.g. projects of an employee), so it becomes
+     * {@code empty} without counting against the breaker; only errors and 5xx mark it unavailable.
+     */
+    private Mono<Optional<JsonNode>> fetch(GatewayIdentity identity, String breaker, String uri, String userName,
+                                           JsonNode empty) {
+        Mono<Optional<JsonNode>> call = webClient.get()
+                .uri(uri, userName)
+                .headers(headers -> {
+                    headers.set(SecurityConstants.HEADER_USER_ID, identity.userId());
+                    headers.set(SecurityConstants.HEADER_USER_NAME, identity.userName());
+                    headers.set(SecurityConstants.HEADER_ORGANIZATION_ID, identity.organizationId());
+                    headers.set(SecurityConstants.HEADER_USER_ROLE, identity.role());
+                })
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError,
+                        response -> response.releaseBody().then(Mono.error(new SectionNotApplicableException())))
+                .bodyToMono(JsonNode.class)
+                .map(body -> Optional.ofNullable(body.get("data")))
+                .onErrorResume(SectionNotApplicableException.class, e -> Mono.just(Optional.of(empty)));
+
+        return circuitBreakerFactory.create(breaker).run(call, t -> {
+            log.warn("Dashboard section {} unavailable: {}", uri, t.getMessage());
+            return Mono.just(Optional.empty());
+        });
+    }
+
+    private static JsonNode section(Optional<JsonNode> data, String name, List<String> unavailable) {
+        if (data.isEmpty()) {
+            unavailable.add(name);
+        }
+        return data.orElse(null);
+    }
+
+    private static class SectionNotApplicableException extends RuntimeException {
+
+        SectionNotApplicableException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.iamhusrev.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.RetryGatewayFilterFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Retries of a failing route stop once the budget is spent, and each one is paid for exactly once.
+ */
+class BudgetedRetryGatewayFilterFactoryTest {
+
+    @Test
+    void retriesStopWhenTheBudgetIsSpent() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // Nothing is earned per request, so only the two retries of the initial capacity are available.
+        BudgetedRetryGatewayFilterFactory factory = new BudgetedRetryGatewayFilterFactory(meterRegistry, 0, 2);
+        GatewayFilter filter = factory.apply(new RetryGatewayFilterFactory.RetryConfig().setRetries(3));
+
+        assertThat(attempts(filter)).isEqualTo(3);
+        assertThat(attempts(filter)).isEqualTo(1);
+        assertThat(meterRegistry.get("gateway.retry.retries").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("gateway.retry.requests").counter().count()).isEqualTo(2);
+    }
+
+    // Sends one GET through the filter to a downstream that always answers 503; returns how often it was called.
+    private static int attempts(GatewayFilter filter) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/task"));
+        AtomicInteger calls = new AtomicInteger();
+        filter.filter(exchange, attempt -> Mono.fromRunnable(() -> {
+            calls.incrementAndGet();
+            attempt.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+        })).block(Duration.ofSeconds(5));
+        return calls.get();
+    }
+}
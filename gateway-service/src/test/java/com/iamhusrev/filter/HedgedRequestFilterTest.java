@@ -0,0 +1,57 @@
+package com.iamhusrev.filter;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Only the attempt that got the response may win the race; an unpaid hedge must not cancel the primary.
+ */
+class HedgedRequestFilterTest {
+
+    private static final Duration DELAY = Duration.ofMillis(10);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void primaryAnswersWhenTheBudgetCannotPayForAHedge() {
+        AtomicBoolean primaryCancelled = new AtomicBoolean();
+        AtomicInteger hedgesSent = new AtomicInteger();
+        Mono<String> primary = Mono.delay(Duration.ofMillis(200)).map(tick -> "primary")
+                .doOnCancel(() -> primaryCancelled.set(true));
+
+        Boolean hedgeWon = HedgedRequestFilter.race(primary, DELAY, () -> false, () -> {
+            hedgesSent.incrementAndGet();
+            return Mono.just("hedge");
+        }).block(TIMEOUT);
+
+        assertThat(hedgeWon).isFalse();
+        assertThat(primaryCancelled).isFalse();
+        assertThat(hedgesSent).hasValue(0);
+    }
+
+    @Test
+    void hedgeWinsWhenItAnswersFirst() {
+        Mono<String> primary = Mono.delay(Duration.ofMillis(500)).map(tick -> "primary");
+
+        Boolean hedgeWon = HedgedRequestFilter.race(primary, DELAY, () -> true, () -> Mono.just("hedge"))
+                .block(TIMEOUT);
+
+        assertThat(hedgeWon).isTrue();
+    }
+
+    @Test
+    void attemptThatLostTheResponseRaceDoesNotWin() {
+        // The hedge is sent, but the primary gets the response first and the hedge completes empty.
+        Mono<String> primary = Mono.delay(Duration.ofMillis(50)).map(tick -> "primary");
+        Mono<String> lostHedge = Mono.delay(Duration.ofMillis(20)).then(Mono.empty());
+
+        Boolean hedgeWon = HedgedRequestFilter.race(primary, DELAY, () -> true, () -> lostHedge).block(TIMEOUT);
+
+        assertThat(hedgeWon).isFalse();
+    }
+}
@@ -0,0 +1,13 @@
+package com.iamhusrev.loadtest;
+
+import java.util.Map;
+
+/**
+ * Measured traffic of one endpoint; failures are responses with status 4xx/5xx or no response at all.
+ */
+public record EndpointResult(String endpoint, long requests, long failures, double throughputPerSecond,
+                             Map<String, Long> statuses, Latency latencyMs) {
+
+    public record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.iamhusrev.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Calls the gateway and records every request under an endpoint label (method plus path template),
+ * so per-user paths such as /employee/pending-tasks/{userName} aggregate into one line of the report.
+ * The first request of a scenario is timed from the scenario's scheduled start (see {@link #timeNextRequestFrom}),
+ * so time spent waiting for a free worker counts as latency instead of being left out.
+ */
+public class GatewayClient {
+
+    public static final String PREFIX = "/iamhusrev/dev";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final URI gateway;
+    private final LatencyRecorder recorder;
+    private final ThreadLocal<Long> scheduledStart = new ThreadLocal<>();
+
+    public GatewayClient(URI gateway, LatencyRecorder recorder) {
+        this.gateway = gateway;
+        this.recorder = recorder;
+    }
+
+    /**
+     * Times the next request made on this thread from {@code startNanos} (a System.nanoTime value) rather
+     * than from when it is sent; null clears a start that no request used.
+     */
+    public void timeNextRequestFrom(Long startNanos) {
+        scheduledStart.set(startNanos);
+    }
+
+    public Response get(String endpoint, String path, String token) {
+        return exchange(endpoint, request(path, token).GET());
+    }
+
+    public Response post(String endpoint, String path, Object body, String token) {
+        return exchange(endpoint, request(path, token).POST(json(body)));
+    }
+
+    public Response put(String endpoint, String path, Object body, String token) {
+        return exchange(endpoint, request(path, token).PUT(json(body)));
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(gateway.resolve(PREFIX + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(body == null ? new byte[0] : objectMapper.writeValueAsBytes(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize request body", e);
+        }
+    }
+
+    private Response exchange(String endpoint, HttpRequest.Builder builder) {
+        HttpRequest request = builder.header("Content-Type", "application/json").build();
+        Long scheduled = scheduledStart.get();
+        scheduledStart.remove();
+        long start = scheduled != null ? scheduled : System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            recorder.record(endpoint, System.nanoTime() - start, response.statusCode());
+            return new Response(response.statusCode(), parse(response.body()));
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - start, LatencyRecorder.NO_RESPONSE);
+            return new Response(LatencyRecorder.NO_RESPONSE, MissingNode.getInstance());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(LatencyRecorder.NO_RESPONSE, MissingNode.getInstance());
+        }
+    }
+
+    private JsonNode parse(byte[] body) {
+        if (body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    /**
+     * Status and parsed body; {@link #data()} is the ResponseWrapper payload.
+     */
+    public record Response(int status, JsonNode body) {
+
+        public boolean isSuccessful() {
+            return status >= 200 && status < 300;
+        }
+
+        public JsonNode data() {
+            return body.path("data");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.iamhusrev.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Time spent in gateway filters, read from the gateway's own {@code gateway.overhead} histogram on
+ * /actuator/prometheus. Buckets are summed over every route/outcome series; a snapshot is taken when
+ * measurement starts and another at the end, so only the measured window counts. Percentiles are the
+ * upper bound of the histogram bucket they fall in.
+ */
+public final class GatewayOverhead {
+
+    private static final String METRIC = "gateway_overhead_seconds";
+    private static final Pattern BUCKET = Pattern.compile("^" + METRIC + "_bucket\\{.*le=\"([^\"]+)\".*} (\\S+)$");
+    private static final Pattern SUM = Pattern.compile("^" + METRIC + "_sum\\{.*} (\\S+)$");
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    private GatewayOverhead() {}
+
+    /**
+     * Cumulative bucket counts and the total time so far, or null when the gateway doesn't expose them.
+     */
+    public static Snapshot scrape(URI gateway) {
+        HttpRequest request = HttpRequest.newBuilder(gateway.resolve("/actuator/prometheus"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            HttpResponse<String> response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 ? parse(response.body()) : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    static Snapshot parse(String exposition) {
+        Map<Double, Double> buckets = new TreeMap<>();
+        double sumSeconds = 0;
+        for (String line : exposition.split("\n")) {
+            Matcher bucket = BUCKET.matcher(line);
+            if (bucket.matches()) {
+                double le = "+Inf".equals(bucket.group(1)) ? Double.POSITIVE_INFINITY : Double.parseDouble(bucket.group(1));
+                buckets.merge(le, Double.parseDouble(bucket.group(2)), Double::sum);
+                continue;
+            }
+            Matcher sum = SUM.matcher(line);
+            if (sum.matches()) {
+                sumSeconds += Double.parseDouble(sum.group(1));
+            }
+        }
+        return buckets.isEmpty() ? null : new Snapshot(buckets, sumSeconds);
+    }
+
+    public record Snapshot(Map<Double, Double> buckets, double sumSeconds) {
+
+        /**
+         * Overhead of the requests recorded after {@code before}.
+         */
+        public Result since(Snapshot before) {
+            Map<Double, Double> window = new TreeMap<>();
+            buckets.forEach((le, count) -> window.put(le, count - (before == null ? 0 : before.buckets.getOrDefault(le, 0.0))));
+            double sum = sumSeconds - (before == null ? 0 : before.sumSeconds);
+            long requests = Math.round(window.getOrDefault(Double.POSITIVE_INFINITY, 0.0));
+            return new Result(requests, requests == 0 ? 0 : millis(sum / requests),
+                    percentile(window, requests, 0.50), percentile(window, requests, 0.99));
+        }
+
+        private static double percentile(Map<Double, Double> cumulative, long requests, double quantile) {
+            double rank = Math.ceil(requests * quantile);
+            for (Map.Entry<Double, Double> bucket : cumulative.entrySet()) {
+                if (bucket.getValue() >= rank) {
+                    return millis(bucket.getKey());
+                }
+            }
+            return Double.POSITIVE_INFINITY;
+        }
+
+        private static double millis(double seconds) {
+            return Math.round(seconds * 1_000_000) / 1000.0;
+        }
+    }
+
+    public record Result(long requests, double meanMs, double p50Ms, double p99Ms) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.iamhusrev.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms and status counts. Only records between {@link #start()} and
+ * {@link #stop()}, so seeding and warm-up traffic stay out of the results.
+ */
+public class LatencyRecorder {
+
+    // Failed requests (connection refused, timeout) are reported under this pseudo status.
+    public static final int NO_RESPONSE = 0;
+
+    private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public void start() {
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public void record(String endpoint, long elapsedNanos, int status) {
+        if (!recording) {
+            return;
+        }
+        EndpointStats stats = endpoints.computeIfAbsent(endpoint, key -> new EndpointStats());
+        stats.latency.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+        stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    public List<EndpointResult> results(double measuredSeconds) {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().toResult(entry.getKey(), measuredSeconds))
+                .sorted(Comparator.comparing(EndpointResult::endpoint))
+                .toList();
+    }
+
+    private static final class EndpointStats {
+
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+        private EndpointResult toResult(String endpoint, double measuredSeconds) {
+            Map<String, Long> statusCounts = new TreeMap<>();
+            statuses.forEach((status, count) -> statusCounts.put(status == NO_RESPONSE ? "none" : status.toString(), count.sum()));
+            long requests = latency.getTotalCount();
+            long failures = statuses.entrySet().stream()
+                    .filter(entry -> entry.getKey() == NO_RESPONSE || entry.getKey() >= 400)
+                    .mapToLong(entry -> entry.getValue().sum())
+                    .sum();
+            return new EndpointResult(endpoint, requests, failures, requests / measuredSeconds, statusCounts,
+                    new EndpointResult.Latency(
+                            millis(latency.getMean()),
+                            millis(latency.getValueAtPercentile(50)),
+                            millis(latency.getValueAtPercentile(90)),
+                            millis(latency.getValueAtPercentile(99)),
+                            millis(latency.getValueAtPercentile(99.9)),
+                            millis(latency.getMaxValue())));
+        }
+
+        private static double millis(double micros) {
+            return Math.round(micros / 10.0) / 100.0;
+        }
+    }
+}
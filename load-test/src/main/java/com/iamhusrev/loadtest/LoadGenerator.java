@@ -0,0 +1,141 @@
+package com.iamhusrev.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load: scenario starts follow a fixed schedule at the configured rate whatever the response
+ * times, so a slow stack shows up as latency instead of silently lowering the offered load. Starts that
+ * find every worker busy wait in the queue, and each scenario's first request is timed from its scheduled
+ * start, so that wait is part of the recorded latency (no coordinated omission). Scenarios still queued
+ * when the post-run drain times out are counted as not started.
+ */
+@Slf4j
+public class LoadGenerator {
+
+    private final LoadTestSettings settings;
+    private final ScenarioRunner runner;
+    private final LatencyRecorder recorder;
+
+    private final Scenario[] scenarios;
+    private final double[] cumulativeWeights;
+
+    public LoadGenerator(LoadTestSettings settings, ScenarioRunner runner, LatencyRecorder recorder) {
+        this.settings = settings;
+        this.runner = runner;
+        this.recorder = recorder;
+
+        Map<Scenario, Double> mix = settings.getMix();
+        this.scenarios = mix.keySet().toArray(Scenario[]::new);
+        this.cumulativeWeights = new double[scenarios.length];
+        double total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += mix.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    public LoadResult run() throws InterruptedException {
+        return run(() -> {});
+    }
+
+    /**
+     * Runs the load; {@code measurementStarted} is called once, when the warm-up ends.
+     */
+    public LoadResult run(Runnable measurementStarted) throws InterruptedException {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(settings.getConcurrency(), settings.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "load-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Map<Scenario, LongAdder> started = new EnumMap<>(Scenario.class);
+        for (Scenario scenario : scenarios) {
+            started.put(scenario, new LongAdder());
+        }
+        LongAdder aborted = new LongAdder();
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / settings.getRate());
+        long start = System.nanoTime();
+        long measureFrom = start + settings.getWarmup().toNanos();
+        long end = measureFrom + settings.getDuration().toNanos();
+        log.info("Offering {} scenarios/s: {} warm-up, then {} measured", settings.getRate(),
+                settings.getWarmup(), settings.getDuration());
+
+        for (long i = 0; ; i++) {
+            long at = start + i * intervalNanos;
+            if (at >= end) {
+                break;
+            }
+            long wait = at - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!recorder.isRecording() && at >= measureFrom) {
+                measurementStarted.run();
+                recorder.start();
+            }
+
+            Scenario scenario = pick();
+            boolean measured = recorder.isRecording();
+            long scheduledAt = at;
+            workers.execute(() -> {
+                try {
+                    runner.run(scenario, scheduledAt);
+                } catch (RuntimeException e) {
+                    if (measured) {
+                        aborted.increment();
+                    }
+                    log.debug("Scenario {} aborted", scenario.getKey(), e);
+                }
+            });
+            if (measured) {
+                started.get(scenario).increment();
+            }
+        }
+        double measuredSeconds = (System.nanoTime() - measureFrom) / 1e9;
+
+        // Scenarios started inside the window are measured to completion, including their slow tail.
+        workers.shutdown();
+        long notStarted = 0;
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            notStarted = workers.shutdownNow().size();
+        }
+        recorder.stop();
+
+        Map<Scenario, Long> counts = new EnumMap<>(Scenario.class);
+        started.forEach((scenario, count) -> counts.put(scenario, count.sum()));
+        return new LoadResult(measuredSeconds, counts, notStarted, aborted.sum());
+    }
+
+    private Scenario pick() {
+        double roll = ThreadLocalRandom.current().nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+    /**
+     * Outcome of the measured window; the per-endpoint numbers live in the {@link LatencyRecorder}.
+     * Scenario starts are the scheduled ones, of which {@code notStarted} never got a worker before the
+     * drain timed out. Aborted scenarios threw on the client side; error responses are counted per endpoint instead.
+     */
+    public record LoadResult(double measuredSeconds, Map<Scenario, Long> scenarioStarts, long notStarted,
+                             long abortedScenarios) {
+    }
+}
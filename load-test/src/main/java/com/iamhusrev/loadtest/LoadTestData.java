@@ -0,0 +1,161 @@
+package com.iamhusrev.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Accounts, projects and tasks the scenarios work on, created through the public API before the run.
+ * Names carry a per-run suffix, so repeated runs against the same stack don't collide.
+ */
+@Slf4j
+@Getter
+public class LoadTestData {
+
+    private static final int MAX_SEED_ATTEMPTS = 10;
+
+    private final List<Session> managers = new ArrayList<>();
+    private final List<Session> employees = new ArrayList<>();
+    private final Map<String, List<String>> projectCodesByManager = new HashMap<>();
+
+    private LoadTestData() {}
+
+    public static LoadTestData seed(GatewayClient client, LoadTestSettings settings) {
+        LoadTestData data = new LoadTestData();
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        for (int i = 0; i < settings.getManagers(); i++) {
+            data.managers.add(register(client, run, "m" + i, i % settings.getOrganizations()));
+        }
+        for (int i = 0; i < settings.getEmployees(); i++) {
+            data.employees.add(register(client, run, "e" + i, i % settings.getOrganizations()));
+        }
+        log.info("Registered {} managers and {} employees in {} organizations",
+                data.managers.size(), data.employees.size(), settings.getOrganizations());
+
+        Map<Integer, List<JsonNode>> projectsByOrganization = new HashMap<>();
+        for (int i = 0; i < data.managers.size(); i++) {
+            Session manager = data.managers.get(i);
+            for (int p = 0; p < settings.getProjectsPerManager(); p++) {
+                String code = "P" + run + "-" + i + "-" + p;
+                JsonNode project = createProject(client, manager, code);
+                projectsByOrganization.computeIfAbsent(manager.getOrganization(), key -> new ArrayList<>()).add(project);
+                data.projectCodesByManager.computeIfAbsent(manager.getUserName(), key -> new ArrayList<>()).add(code);
+            }
+        }
+
+        int tasks = 0;
+        for (int i = 0; i < data.employees.size(); i++) {
+            Session employee = data.employees.get(i);
+            List<JsonNode> projects = projectsByOrganization.getOrDefault(employee.getOrganization(), List.of());
+            if (projects.isEmpty() || settings.getTasksPerEmployee() <= 0) {
+                continue;
+            }
+            // Round-robin over the organization's projects, offset per employee so every project gets tasks.
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (int t = 0; t < settings.getTasksPerEmployee(); t++) {
+                batch.add(task(projects.get((i + t) % projects.size()), employee, t));
+            }
+            createTasks(client, employee, batch);
+            tasks += batch.size();
+        }
+        log.info("Created {} projects and {} tasks", projectsByOrganization.values().stream().mapToInt(List::size).sum(), tasks);
+        return data;
+    }
+
+    public Session anyAccount(Random random) {
+        int index = random.nextInt(managers.size() + employees.size());
+        return index < managers.size() ? managers.get(index) : employees.get(index - managers.size());
+    }
+
+    public Session employee(Random random) {
+        return employees.get(random.nextInt(employees.size()));
+    }
+
+    public Session manager(Random random) {
+        return managers.get(random.nextInt(managers.size()));
+    }
+
+    private static Session register(GatewayClient client, String run, String suffix, int organization) {
+        String userName = "lt" + run + suffix;
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("firstName", "Load");
+        request.put("lastName", "Tester");
+        request.put("userName", userName);
+        request.put("passWord", Session.PASSWORD);
+        request.put("confirmPassword", Session.PASSWORD);
+        request.put("gender", "FEMALE");
+        request.put("organizationName", "loadtest-" + run + "-" + organization);
+
+        JsonNode auth = call("register " + userName,
+                () -> client.post("POST /auth/register", "/auth/register", request, null));
+        return new Session(userName, auth.path("user").path("id").asLong(), organization,
+                auth.path("accessToken").asText());
+    }
+
+    private static JsonNode createProject(GatewayClient client, Session manager, String code) {
+        Map<String, Object> project = new LinkedHashMap<>();
+        project.put("projectName", "Load test " + code);
+        project.put("projectCode", code);
+        project.put("assignedManager", manager.reference());
+        project.put("startDate", LocalDate.now());
+        project.put("endDate", LocalDate.now().plusMonths(3));
+        project.put("projectDetail", "Seeded by the load-test harness");
+        project.put("projectStatus", "OPEN");
+
+        call("create project " + code,
+                () -> client.post("POST /project", "/project/api/project", project, manager.token(client)));
+        // The create endpoint answers without a body; tasks need the generated id.
+        return call("read project " + code,
+                () -> client.get("GET /project/{code}", "/project/api/project/" + code, manager.token(client)));
+    }
+
+    private static Map<String, Object> task(JsonNode project, Session employee, int index) {
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("project", Map.of("id", project.path("id").asLong(), "projectCode", project.path("projectCode").asText()));
+        task.put("assignedEmployee", employee.reference());
+        task.put("taskSubject", "Task " + index + " of " + employee.getUserName());
+        task.put("taskDetail", "Seeded by the load-test harness");
+        return task;
+    }
+
+    private static void createTasks(GatewayClient client, Session employee, List<Map<String, Object>> tasks) {
+        call("create tasks for " + employee.getUserName(),
+                () -> client.post("POST /task/batch", "/task/api/task/batch", Map.of("tasks", tasks), employee.token(client)));
+    }
+
+    // Seeding goes through the same rate limits as the load, so throttled or not-yet-routable calls are retried.
+    private static JsonNode call(String what, Supplier<GatewayClient.Response> request) {
+        GatewayClient.Response response = null;
+        for (int attempt = 1; attempt <= MAX_SEED_ATTEMPTS; attempt++) {
+            response = request.get();
+            if (response.isSuccessful()) {
+                return response.data();
+            }
+            if (response.status() != 429 && response.status() != 503 && response.status() != LatencyRecorder.NO_RESPONSE) {
+                break;
+            }
+            sleep(250L * attempt);
+        }
+        throw new IllegalStateException("Could not " + what + ": status " + response.status() + " "
+                + response.body().path("message").asText(""));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while seeding", e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.iamhusrev.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a run: the offered load, what was actually started, and per-endpoint throughput and latency.
+ * Printed as a table and written as JSON for comparing runs.
+ */
+public record LoadTestReport(String target, double offeredRate, long warmupSeconds, double measuredSeconds,
+                             int concurrency, Map<String, Long> scenarioStarts, long notStarted,
+                             long abortedScenarios, List<EndpointResult> endpoints, Map<String, Long> eventsPublished,
+                             Boolean jwtCache, GatewayOverhead.Result gatewayOverhead) {
+
+    public static LoadTestReport of(String target, LoadTestSettings settings, LoadGenerator.LoadResult result,
+                                    LatencyRecorder recorder, Map<String, Long> eventsPublished, Boolean jwtCache,
+                                    GatewayOverhead.Result gatewayOverhead) {
+        Map<String, Long> starts = new LinkedHashMap<>();
+        result.scenarioStarts().forEach((scenario, count) -> starts.put(scenario.getKey(), count));
+        return new LoadTestReport(target, settings.getRate(), settings.getWarmup().toSeconds(),
+                round(result.measuredSeconds()), settings.getConcurrency(), starts, result.notStarted(),
+                result.abortedScenarios(), recorder.results(result.measuredSeconds()), eventsPublished,
+                jwtCache, gatewayOverhead);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nLoad test against %s: %.1f scenarios/s offered for %.0fs (after %ds warm-up)%n",
+                target, offeredRate, measuredSeconds, warmupSeconds);
+        out.printf("Scenario starts: %s, never got a worker: %d, aborted by client errors: %d%n%n", scenarioStarts, notStarted, abortedScenarios);
+        out.printf("%-48s %8s %8s %8s %9s %9s %9s %9s %9s  %s%n",
+                "Endpoint", "Requests", "Req/s", "Failed", "Mean ms", "p50 ms", "p90 ms", "p99 ms", "Max ms", "Statuses");
+        for (EndpointResult endpoint : endpoints) {
+            EndpointResult.Latency latency = endpoint.latencyMs();
+            out.printf("%-48s %8d %8.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    endpoint.endpoint(), endpoint.requests(), endpoint.throughputPerSecond(), endpoint.failures(),
+                    latency.mean(), latency.p50(), latency.p90(), latency.p99(), latency.max(), endpoint.statuses());
+        }
+        if (gatewayOverhead != null) {
+            out.printf("%nGateway overhead%s: %d requests, mean %.2f ms, p50 <= %.2f ms, p99 <= %.2f ms%n",
+                    jwtCache == null ? "" : jwtCache ? " (JWT claims cache on)" : " (JWT claims cache off)",
+                    gatewayOverhead.requests(), gatewayOverhead.meanMs(), gatewayOverhead.p50Ms(), gatewayOverhead.p99Ms());
+        }
+        if (!eventsPublished.isEmpty()) {
+            out.printf("%nEvents published to the stub broker: %s%n", eventsPublished);
+        }
+    }
+
+    public void write(Path file) throws IOException {
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), this);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.iamhusrev.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Entry point: boots the stack against the stand-ins (or uses loadtest.target), seeds data, runs the
+ * scenario mix at the configured rate and reports per-endpoint throughput and latency percentiles.
+ */
+@Slf4j
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        StandInStack stack = settings.getTarget() == null ? StandInStack.start(settings) : null;
+        try {
+            URI gateway = stack != null ? stack.getGatewayUri() : URI.create(settings.getTarget());
+            LatencyRecorder recorder = new LatencyRecorder();
+            GatewayClient client = new GatewayClient(gateway, recorder);
+
+            LoadTestData data = LoadTestData.seed(client, settings);
+            AtomicReference<GatewayOverhead.Snapshot> overheadBefore = new AtomicReference<>();
+            LoadGenerator.LoadResult result = new LoadGenerator(settings, new ScenarioRunner(client, data), recorder)
+                    .run(() -> overheadBefore.set(GatewayOverhead.scrape(gateway)));
+
+            Map<String, Long> events = stack != null ? stack.eventsPublished() : Map.of();
+            GatewayOverhead.Snapshot overheadAfter = GatewayOverhead.scrape(gateway);
+            GatewayOverhead.Result overhead = overheadAfter == null ? null : overheadAfter.since(overheadBefore.get());
+            // Only known when the harness started the gateway itself.
+            Boolean jwtCache = stack != null ? settings.isJwtCache() : null;
+            LoadTestReport report = LoadTestReport.of(gateway.toString(), settings, result, recorder, events,
+                    jwtCache, overhead);
+            report.print(System.out);
+            report.write(settings.getResultFile());
+            log.info("Results written to {}", settings.getResultFile());
+        } finally {
+            if (stack != null) {
+                stack.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.iamhusrev.loadtest;
+
+import lombok.Getter;
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Harness settings, read from loadtest.* system properties (e.g. -Dloadtest.rate=100).
+ */
+@Getter
+public class LoadTestSettings {
+
+    // Gateway base URL of a running stack; when unset the harness boots its own against the stand-ins.
+    private final String target;
+
+    // Scenario starts per second, spread over the mix by weight.
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    // Scenarios allowed in flight; later starts queue, and the queueing counts toward their latency.
+    private final int concurrency;
+    private final Map<Scenario, Double> mix;
+
+    private final int organizations;
+    private final int managers;
+    private final int employees;
+    private final int projectsPerManager;
+    private final int tasksPerEmployee;
+
+    // Off by default: without a broker no invalidation events reach the gateway, so cached reads would go stale.
+    private final boolean responseCache;
+    // Off to measure gateway overhead without the JWT claims cache (every request verified).
+    private final boolean jwtCache;
+    private final String serviceJvmArgs;
+    private final Duration startupTimeout;
+    private final Path projectDir;
+    private final Path resultFile;
+
+    private LoadTestSettings() {
+        this.target = property("target", null);
+        this.rate = Double.parseDouble(property("rate", "20"));
+        this.warmup = DurationStyle.detectAndParse(property("warmup", "15s"));
+        this.duration = DurationStyle.detectAndParse(property("duration", "60s"));
+        this.concurrency = Integer.parseInt(property("concurrency", "64"));
+        this.mix = parseMix(property("mix", "login:1,list-tasks:6,update-status:3,complete-project:1"));
+        this.organizations = Integer.parseInt(property("organizations", "4"));
+        this.managers = Math.max(organizations, Integer.parseInt(property("managers", "8")));
+        this.employees = Math.max(organizations, Integer.parseInt(property("employees", "40")));
+        this.projectsPerManager = Integer.parseInt(property("projects-per-manager", "5"));
+        // One POST /api/task/batch per employee, which accepts at most 500 tasks.
+        this.tasksPerEmployee = Math.min(500, Integer.parseInt(property("tasks-per-employee", "10")));
+        this.responseCache = Boolean.parseBoolean(property("response-cache", "false"));
+        this.jwtCache = Boolean.parseBoolean(property("jwt-cache", "true"));
+        this.serviceJvmArgs = property("service-jvm-args", "-Xms256m -Xmx512m");
+        this.startupTimeout = DurationStyle.detectAndParse(property("startup-timeout", "300s"));
+        this.projectDir = resolveProjectDir(property("project-dir", null));
+        this.resultFile = Path.of(property("result-file", "load-test-result.json")).toAbsolutePath();
+
+        if (rate <= 0 || concurrency <= 0) {
+            throw new IllegalArgumentException("loadtest.rate and loadtest.concurrency must be positive");
+        }
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    private static Map<Scenario, Double> parseMix(String value) {
+        Map<Scenario, Double> mix = new EnumMap<>(Scenario.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix entries look like list-tasks:6, got: " + entry);
+            }
+            double weight = Double.parseDouble(parts[1].trim());
+            if (weight > 0) {
+                mix.put(Scenario.of(parts[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no scenario with a positive weight");
+        }
+        return mix;
+    }
+
+    // The repository root is the first directory upwards that holds config-repo (mvn -pl load-test runs in load-test/).
+    private static Path resolveProjectDir(String configured) {
+        if (configured != null) {
+            return Path.of(configured).toAbsolutePath().normalize();
+        }
+        for (Path dir = Path.of("").toAbsolutePath(); dir != null; dir = dir.getParent()) {
+            if (Files.isDirectory(dir.resolve("config-repo"))) {
+                return dir;
+            }
+        }
+        return Path.of("").toAbsolutePath();
+    }
+}
@@ -0,0 +1,35 @@
+package com.iamhusrev.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Scripted user journeys. Each run of a scenario issues one or more requests through the gateway.
+ */
+public enum Scenario {
+
+    /** Any seeded user signs in. */
+    LOGIN("login"),
+    /** An employee opens their pending tasks and the first page of their archive. */
+    LIST_TASKS("list-tasks"),
+    /** An employee opens their pending tasks and moves one of them to another status. */
+    UPDATE_STATUS("update-status"),
+    /** A manager opens their project details and completes one of the projects. */
+    COMPLETE_PROJECT("complete-project");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Scenario of(String key) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario: " + key));
+    }
+}
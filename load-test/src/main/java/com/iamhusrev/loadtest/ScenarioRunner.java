@@ -0,0 +1,86 @@
+package com.iamhusrev.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Executes one run of a {@link Scenario} against the gateway, on the calling thread. Its first request
+ * is timed from {@code scheduledAt}, the moment the open-loop schedule meant the scenario to start.
+ */
+public class ScenarioRunner {
+
+    // Statuses an employee moves tasks between; COMPLETE would drop them from the pending list for good.
+    private static final List<String> WORKING_STATUSES = List.of("OPEN", "IN_PROGRESS", "UAT_TEST");
+
+    private final GatewayClient client;
+    private final LoadTestData data;
+
+    public ScenarioRunner(GatewayClient client, LoadTestData data) {
+        this.client = client;
+        this.data = data;
+    }
+
+    public void run(Scenario scenario, long scheduledAt) {
+        client.timeNextRequestFrom(scheduledAt);
+        try {
+            run(scenario);
+        } finally {
+            client.timeNextRequestFrom(null);
+        }
+    }
+
+    private void run(Scenario scenario) {
+        Random random = ThreadLocalRandom.current();
+        switch (scenario) {
+            case LOGIN -> data.anyAccount(random).login(client);
+            case LIST_TASKS -> listTasks(data.employee(random));
+            case UPDATE_STATUS -> updateStatus(data.employee(random), random);
+            case COMPLETE_PROJECT -> completeProject(data.manager(random), random);
+        }
+    }
+
+    private void listTasks(Session employee) {
+        pendingTasks(employee);
+        client.get("GET /task/employee/archive/{userName}?limit",
+                "/task/api/task/employee/archive/" + employee.getUserName() + "?limit=20", employee.token(client));
+    }
+
+    private void updateStatus(Session employee, Random random) {
+        JsonNode tasks = pendingTasks(employee).data();
+        if (!tasks.isArray() || tasks.isEmpty()) {
+            return;
+        }
+        JsonNode task = tasks.get(random.nextInt(tasks.size()));
+        Map<String, Object> update = new HashMap<>();
+        update.put("id", task.path("id").asLong());
+        update.put("taskStatus", WORKING_STATUSES.get(random.nextInt(WORKING_STATUSES.size())));
+        client.put("PUT /task/employee/update", "/task/api/task/employee/update/", update, employee.token(client));
+    }
+
+    private void completeProject(Session manager, Random random) {
+        JsonNode projects = client.get("GET /project/details/{userName}",
+                "/project/api/project/details/" + manager.getUserName(), manager.token(client)).data();
+        List<String> codes = new ArrayList<>();
+        projects.forEach(project -> codes.add(project.path("projectCode").asText()));
+        if (codes.isEmpty()) {
+            codes.addAll(data.getProjectCodesByManager().getOrDefault(manager.getUserName(), List.of()));
+        }
+        if (codes.isEmpty()) {
+            return;
+        }
+        client.put("PUT /project/manager/complete/{projectCode}",
+                "/project/api/project/manager/complete/" + codes.get(random.nextInt(codes.size())), null,
+                manager.token(client));
+    }
+
+    private GatewayClient.Response pendingTasks(Session employee) {
+        return client.get("GET /task/employee/pending-tasks/{userName}",
+                "/task/api/task/employee/pending-tasks/" + employee.getUserName(), employee.token(client));
+    }
+}
@@ -0,0 +1,132 @@
+package com.iamhusrev.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One service running from its Spring Boot jar in a child JVM. The jar is started through PropertiesLauncher
+ * so loader.path can put the stand-ins (H2 driver, stub broker) in front of the service's own classpath.
+ */
+@Slf4j
+public class ServiceProcess {
+
+    private static final String LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    @Getter
+    private final String name;
+    @Getter
+    private final int port;
+    private final Path logFile;
+    private final Process process;
+
+    private ServiceProcess(String name, int port, Path logFile, Process process) {
+        this.name = name;
+        this.port = port;
+        this.logFile = logFile;
+        this.process = process;
+    }
+
+    public static ServiceProcess start(String name, String mainClass, int port, Path jar, List<Path> loaderPath,
+                                       String jvmArgs, List<String> arguments, Path workDir) throws IOException {
+        Files.createDirectories(workDir);
+        Path logFile = workDir.resolve("console.log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        for (String jvmArg : jvmArgs.trim().split("\\s+")) {
+            if (!jvmArg.isEmpty()) {
+                command.add(jvmArg);
+            }
+        }
+        command.add("-cp");
+        command.add(jar.toString());
+        command.add("-Dloader.main=" + mainClass);
+        command.add("-Dloader.path=" + String.join(",", loaderPath.stream().map(Path::toString).toList()));
+        command.add(LAUNCHER);
+        command.addAll(arguments);
+
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        log.info("Starting {} on port {} (log: {})", name, port, logFile);
+        return new ServiceProcess(name, port, logFile, process);
+    }
+
+    public URI uri() {
+        return URI.create("http://localhost:" + port);
+    }
+
+    public void awaitHealthy(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest health = HttpRequest.newBuilder(uri().resolve("/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    log.info("{} is up", name);
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet.
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException(name + " did not become healthy within " + timeout + ", see " + logFile);
+    }
+
+    // First measurement of an actuator metric, or -1 when the service doesn't have it.
+    public double metric(String metric, String tag) {
+        HttpRequest request = HttpRequest.newBuilder(uri().resolve("/actuator/metrics/" + metric + "?tag=" + tag))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                return -1;
+            }
+            return OBJECT_MAPPER.readTree(response.body()).path("measurements").path(0).path("value").asDouble(-1);
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    public void stop() {
+        if (!process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        try {
+            if (!process.waitFor(20, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
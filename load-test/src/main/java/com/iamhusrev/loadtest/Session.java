@@ -0,0 +1,52 @@
+package com.iamhusrev.loadtest;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * A seeded account and its current access token. Tokens are renewed by logging in again shortly before
+ * the 15 minute access-token lifetime runs out, so long runs don't turn into a wall of 401s.
+ */
+@Getter
+public class Session {
+
+    static final String PASSWORD = "LoadTest#2024";
+    private static final long RENEW_AFTER_NANOS = Duration.ofMinutes(10).toNanos();
+
+    private final String userName;
+    private final long userId;
+    private final int organization;
+    private volatile String token;
+    private volatile long issuedAt;
+
+    Session(String userName, long userId, int organization, String token) {
+        this.userName = userName;
+        this.userId = userId;
+        this.organization = organization;
+        this.token = token;
+        this.issuedAt = System.nanoTime();
+    }
+
+    public String token(GatewayClient client) {
+        if (System.nanoTime() - issuedAt > RENEW_AFTER_NANOS) {
+            GatewayClient.Response response = login(client);
+            if (response.isSuccessful()) {
+                token = response.data().path("accessToken").asText();
+                issuedAt = System.nanoTime();
+            }
+        }
+        return token;
+    }
+
+    public GatewayClient.Response login(GatewayClient client) {
+        return client.post("POST /auth/login", "/auth/login",
+                Map.of("userName", userName, "passWord", PASSWORD), null);
+    }
+
+    // Just enough of a UserDTO for the services to resolve the user by id and name.
+    public Map<String, Object> reference() {
+        return Map.of("id", userId, "userName", userName);
+    }
+}
@@ -0,0 +1,207 @@
+package com.iamhusrev.loadtest;
+
+import com.iamhusrev.loadtest.standin.StandInBrokerAutoConfiguration;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.tools.Server;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gateway, user, project and task services started from their jars against in-process stand-ins:
+ * <ul>
+ *     <li>Postgres: one H2 TCP server in PostgreSQL mode, shared by all services like the real database;</li>
+ *     <li>RabbitMQ: {@link StandInBrokerAutoConfiguration}, events are serialized and dropped;</li>
+ *     <li>Eureka and the config server: a static simple-discovery registry and config-repo read from disk.</li>
+ * </ul>
+ */
+@Slf4j
+public class StandInStack implements AutoCloseable {
+
+    enum Service {
+        USER("user-service", "com.iamhusrev.UserServiceApplication", true),
+        PROJECT("project-service", "com.iamhusrev.ProjectServiceApplication", true),
+        TASK("task-service", "com.iamhusrev.TaskServiceApplication", true),
+        GATEWAY("gateway-service", "com.iamhusrev.GatewayServerApplication", false);
+
+        private final String id;
+        private final String mainClass;
+        private final boolean database;
+
+        Service(String id, String mainClass, boolean database) {
+            this.id = id;
+            this.mainClass = mainClass;
+            this.database = database;
+        }
+    }
+
+    private final LoadTestSettings settings;
+    private final Map<Service, Integer> ports = new EnumMap<>(Service.class);
+    private final Map<Service, ServiceProcess> processes = new EnumMap<>(Service.class);
+    private Server database;
+    private String jdbcUrl;
+
+    private StandInStack(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    public static StandInStack start(LoadTestSettings settings) throws IOException, SQLException, InterruptedException {
+        StandInStack stack = new StandInStack(settings);
+        Runtime.getRuntime().addShutdownHook(new Thread(stack::close, "stand-in-stack-shutdown"));
+        try {
+            stack.startDatabase();
+            for (Service service : Service.values()) {
+                stack.ports.put(service, freePort());
+            }
+            // user-service first: its schema update and seed data run before anyone else touches the database.
+            stack.launch(Service.USER).awaitHealthy(settings.getStartupTimeout());
+            stack.launch(Service.PROJECT);
+            stack.launch(Service.TASK);
+            stack.launch(Service.GATEWAY);
+            for (Service service : List.of(Service.PROJECT, Service.TASK, Service.GATEWAY)) {
+                stack.processes.get(service).awaitHealthy(settings.getStartupTimeout());
+            }
+            return stack;
+        } catch (IOException | SQLException | InterruptedException | RuntimeException e) {
+            stack.close();
+            throw e;
+        }
+    }
+
+    public URI getGatewayUri() {
+        return processes.get(Service.GATEWAY).uri();
+    }
+
+    // Events each service handed to the stub broker (EventPublisher's events.published{result=ack}).
+    public Map<String, Long> eventsPublished() {
+        Map<String, Long> events = new LinkedHashMap<>();
+        for (Service service : List.of(Service.USER, Service.PROJECT, Service.TASK)) {
+            double value = processes.get(service).metric("events.published", "result:ack");
+            if (value >= 0) {
+                events.put(service.id, (long) value);
+            }
+        }
+        return events;
+    }
+
+    @Override
+    public synchronized void close() {
+        List<Service> order = new ArrayList<>(processes.keySet());
+        for (int i = order.size() - 1; i >= 0; i--) {
+            processes.get(order.get(i)).stop();
+        }
+        processes.clear();
+        if (database != null) {
+            database.stop();
+            database = null;
+        }
+    }
+
+    private void startDatabase() throws SQLException, IOException {
+        int port = freePort();
+        database = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        jdbcUrl = "jdbc:h2:tcp://localhost:" + port + "/mem:ticketing-app"
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+        log.info("H2 stand-in for Postgres listening on port {}", port);
+    }
+
+    private ServiceProcess launch(Service service) throws IOException {
+        List<Path> loaderPath = new ArrayList<>();
+        loaderPath.add(codeSource(StandInBrokerAutoConfiguration.class));
+        if (service.database) {
+            loaderPath.add(codeSource(org.h2.Driver.class));
+        }
+
+        ServiceProcess process = ServiceProcess.start(service.id, service.mainClass, ports.get(service), jar(service),
+                loaderPath, settings.getServiceJvmArgs(), arguments(service),
+                settings.getProjectDir().resolve("load-test/target/run").resolve(service.id));
+        processes.put(service, process);
+        return process;
+    }
+
+    private List<String> arguments(Service service) {
+        Path configRepo = settings.getProjectDir().resolve("config-repo");
+        List<String> arguments = new ArrayList<>();
+        arguments.add("--server.port=" + ports.get(service));
+
+        // Config server: read the same files it would serve straight from config-repo.
+        arguments.add("--spring.cloud.config.enabled=false");
+        arguments.add("--spring.config.import=optional:file:" + configRepo.resolve("application.yml")
+                + ",optional:file:" + configRepo.resolve(service.id + ".yml"));
+
+        // Eureka: a fixed registry of the services started here.
+        arguments.add("--eureka.client.enabled=false");
+        for (Service target : Service.values()) {
+            arguments.add("--spring.cloud.discovery.client.simple.instances." + target.id + "[0].uri=http://localhost:"
+                    + ports.get(target));
+        }
+
+        // RabbitMQ: stub template, no listener containers, no broker health check.
+        arguments.add("--loadtest.stub-broker=true");
+        arguments.add("--spring.rabbitmq.listener.simple.auto-startup=false");
+        arguments.add("--spring.rabbitmq.listener.direct.auto-startup=false");
+        arguments.add("--management.health.rabbit.enabled=false");
+
+        if (service.database) {
+            arguments.add("--spring.datasource.url=" + jdbcUrl);
+            arguments.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            arguments.add("--spring.datasource.username=sa");
+            arguments.add("--spring.datasource.password=");
+            arguments.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+            arguments.add("--spring.sql.init.mode=never");
+        }
+        if (service == Service.GATEWAY && !settings.isResponseCache()) {
+            arguments.add("--gateway.response-cache.routes=");
+        }
+        if (service == Service.GATEWAY) {
+            arguments.add("--gateway.jwt-cache.enabled=" + settings.isJwtCache());
+        }
+
+        // No Zipkin to report to, and per-statement SQL logging would dominate the measured latency.
+        arguments.add("--management.tracing.enabled=false");
+        arguments.add("--spring.jpa.show-sql=false");
+        arguments.add("--logging.level.root=WARN");
+        arguments.add("--logging.level.com.iamhusrev=WARN");
+        return arguments;
+    }
+
+    private Path jar(Service service) throws IOException {
+        Path target = settings.getProjectDir().resolve(service.id).resolve("target");
+        if (Files.isDirectory(target)) {
+            try (DirectoryStream<Path> jars = Files.newDirectoryStream(target, service.id + "-*-exec.jar")) {
+                for (Path jar : jars) {
+                    return jar;
+                }
+            }
+        }
+        throw new IllegalStateException("No jar in " + target + "; run mvn package -DskipTests first");
+    }
+
+    private static Path codeSource(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Cannot locate " + type.getName(), e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
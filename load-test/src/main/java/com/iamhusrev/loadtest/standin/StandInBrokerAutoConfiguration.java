@@ -0,0 +1,29 @@
+package com.iamhusrev.loadtest.standin;
+
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.amqp.RabbitAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Replaces the auto-configured RabbitTemplate with {@link StandInRabbitTemplate} when a service is started
+ * by the load-test harness (loadtest.stub-broker=true). Only on the classpath of services the harness launches.
+ */
+@AutoConfiguration(before = RabbitAutoConfiguration.class)
+@ConditionalOnClass(RabbitTemplate.class)
+@ConditionalOnProperty(prefix = "loadtest", name = "stub-broker", havingValue = "true")
+public class StandInBrokerAutoConfiguration {
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory,
+                                         ObjectProvider<MessageConverter> messageConverter) {
+        StandInRabbitTemplate template = new StandInRabbitTemplate(connectionFactory);
+        messageConverter.ifUnique(template::setMessageConverter);
+        return template;
+    }
+}
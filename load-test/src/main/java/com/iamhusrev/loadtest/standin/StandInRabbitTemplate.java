@@ -0,0 +1,25 @@
+package com.iamhusrev.loadtest.standin;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * RabbitTemplate that never opens a connection. Events are still converted to messages, so serialization
+ * stays in the measured path, and are then dropped with an immediate positive publisher confirm, which
+ * EventPublisher counts as events.published{result=ack}.
+ */
+public class StandInRabbitTemplate extends RabbitTemplate {
+
+    public StandInRabbitTemplate(ConnectionFactory connectionFactory) {
+        super(connectionFactory);
+    }
+
+    @Override
+    public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+        if (correlationData != null) {
+            correlationData.getFuture().complete(new CorrelationData.Confirm(true, null));
+        }
+    }
+}
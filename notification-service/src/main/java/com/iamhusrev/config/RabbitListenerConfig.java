@@ -0,0 +1,41 @@
+package com.iamhusrev.config;
+
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Listener container for notification.queue. Prefetch, consumer bounds and batch size come from
+ * spring.rabbitmq.listener.simple.*; the settings below control how fast the container adds consumers
+ * while the queue has a backlog, releases them once it drains, and how long a consumer waits to fill a batch.
+ */
+@Configuration
+public class RabbitListenerConfig {
+
+    @Value("${notification.listener.consecutive-active-trigger:3}")
+    private int consecutiveActiveTrigger;
+
+    @Value("${notification.listener.consecutive-idle-trigger:10}")
+    private int consecutiveIdleTrigger;
+
+    @Value("${notification.listener.start-consumer-min-interval-ms:2000}")
+    private long startConsumerMinInterval;
+
+    @Value("${notification.listener.receive-timeout-ms:200}")
+    private long receiveTimeout;
+
+    @Bean
+    public SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer, ConnectionFactory connectionFactory) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConsecutiveActiveTrigger(consecutiveActiveTrigger);
+        factory.setConsecutiveIdleTrigger(consecutiveIdleTrigger);
+        factory.setStartConsumerMinInterval(startConsumerMinInterval);
+        factory.setReceiveTimeout(receiveTimeout);
+        return factory;
+    }
+}
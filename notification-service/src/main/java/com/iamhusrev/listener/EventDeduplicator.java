@@ -0,0 +1,94 @@
+package com.iamhusrev.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers recently processed eventIds in two generations. New ids go into the current one; when it is
+ * older than the retention or holds max-entries ids, the previous generation is discarded and the current
+ * one takes its place. An id is therefore remembered for at least one retention period (or max-entries
+ * further events), and memory never exceeds two generations no matter how many events flow through.
+ */
+@Component
+public class EventDeduplicator {
+
+    private final long retentionNanos;
+    private final int maxEntries;
+    private final Counter hits;
+    private final Counter misses;
+    private volatile Generations generations;
+
+    public EventDeduplicator(@Value("${notification.dedup.retention:10m}") Duration retention,
+                             @Value("${notification.dedup.max-entries:200000}") int maxEntries,
+                             MeterRegistry meterRegistry) {
+        this.retentionNanos = retention.toNanos();
+        this.maxEntries = maxEntries;
+        this.generations = new Generations(ConcurrentHashMap.newKeySet(), Set.of(), System.nanoTime());
+        this.hits = Counter.builder("notification.dedup").tag("result", "hit")
+                .description("Events skipped because their eventId was already processed")
+                .register(meterRegistry);
+        this.misses = Counter.builder("notification.dedup").tag("result", "miss")
+                .description("Events seen for the first time")
+                .register(meterRegistry);
+        Gauge.builder("notification.dedup.size", this, EventDeduplicator::size)
+                .description("eventIds currently remembered")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records the id and returns true unless it was already seen within the window.
+     */
+    public boolean firstSeen(String eventId) {
+        if (eventId == null) {
+            return true;
+        }
+        Generations g = rotateIfDue();
+        if (g.previous().contains(eventId) || !g.current().add(eventId)) {
+            hits.increment();
+            return false;
+        }
+        misses.increment();
+        return true;
+    }
+
+    /**
+     * Undoes {@link #firstSeen} for an event whose processing failed, so its redelivery is not skipped.
+     */
+    public void forget(String eventId) {
+        if (eventId != null) {
+            generations.current().remove(eventId);
+        }
+    }
+
+    int size() {
+        Generations g = generations;
+        return g.current().size() + g.previous().size();
+    }
+
+    private Generations rotateIfDue() {
+        Generations g = generations;
+        if (!g.isDue(retentionNanos, maxEntries)) {
+            return g;
+        }
+        synchronized (this) {
+            if (generations.isDue(retentionNanos, maxEntries)) {
+                generations = new Generations(ConcurrentHashMap.newKeySet(), generations.current(), System.nanoTime());
+            }
+            return generations;
+        }
+    }
+
+    private record Generations(Set<String> current, Set<String> previous, long startedAt) {
+
+        boolean isDue(long retentionNanos, int maxEntries) {
+            return System.nanoTime() - startedAt >= retentionNanos || current.size() >= maxEntries;
+        }
+    }
+}
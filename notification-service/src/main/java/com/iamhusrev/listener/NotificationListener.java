@@ -3,32 +3,70 @@ package com.iamhusrev.listener;
 import com.iamhusrev.event.BaseEvent;
 import com.iamhusrev.event.ProjectEvent;
 import com.iamhusrev.event.RabbitMQConfig;
+import com.iamhusrev.event.TaskBulkEvent;
 import com.iamhusrev.event.TaskEvent;
 import com.iamhusrev.event.UserEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Component
 @Slf4j
 public class NotificationListener {
 
+    private final EventDeduplicator deduplicator;
+    private final Timer consumeLag;
+
+    public NotificationListener(EventDeduplicator deduplicator, MeterRegistry meterRegistry) {
+        this.deduplicator = deduplicator;
+        this.consumeLag = Timer.builder("notification.consume.lag")
+                .description("Time between an event being raised and it being consumed")
+                .register(meterRegistry);
+    }
+
+    // Batches of up to spring.rabbitmq.listener.simple.batch-size messages (consumer-batch-enabled).
     @RabbitListener(queues = RabbitMQConfig.NOTIFICATION_QUEUE)
-    public void handleEvent(BaseEvent event) {
-        log.info("=== NOTIFICATION ===");
-        log.info("Event ID: {}", event.getEventId());
-        log.info("Event Type: {}", event.getEventType());
-        log.info("Service: {}", event.getServiceName());
-        log.info("Timestamp: {}", event.getTimestamp());
+    public void handleEvents(List<BaseEvent> events) {
+        LocalDateTime now = LocalDateTime.now();
+        for (BaseEvent event : events) {
+            if (event.getTimestamp() != null) {
+                consumeLag.record(Duration.between(event.getTimestamp(), now));
+            }
+            // Redeliveries and duplicate publishes carry the same eventId.
+            if (!deduplicator.firstSeen(event.getEventId())) {
+                log.debug("Skipping duplicate event {}", event.getEventId());
+                continue;
+            }
+            try {
+                handleEvent(event);
+            } catch (RuntimeException e) {
+                deduplicator.forget(event.getEventId());
+                throw e;
+            }
+        }
+    }
+
+    void handleEvent(BaseEvent event) {
+        log.info("notification eventId={} type={} service={} timestamp={} {}", event.getEventId(),
+                event.getEventType(), event.getServiceName(), event.getTimestamp(), describe(event));
+    }
 
+    private static String describe(BaseEvent event) {
         if (event instanceof UserEvent ue) {
-            log.info("User: {} ({} {})", ue.getUserName(), ue.getFirstName(), ue.getLastName());
+            return "user=" + ue.getUserName() + " name=\"" + ue.getFirstName() + " " + ue.getLastName() + "\"";
         } else if (event instanceof ProjectEvent pe) {
-            log.info("Project: {} - {}", pe.getProjectCode(), pe.getProjectName());
+            return "project=" + pe.getProjectCode() + " projectName=\"" + pe.getProjectName() + "\"";
         } else if (event instanceof TaskEvent te) {
-            log.info("Task: {} [{}] - Status: {}", te.getTaskSubject(), te.getProjectCode(), te.getStatus());
+            return "task=\"" + te.getTaskSubject() + "\" project=" + te.getProjectCode() + " status=" + te.getStatus();
+        } else if (event instanceof TaskBulkEvent tbe) {
+            return "affected=" + tbe.getAffectedCount() + " project=" + tbe.getProjectCode() + " status=" + tbe.getStatus();
         }
-
-        log.info("====================");
+        return "";
     }
 }
@@ -0,0 +1,48 @@
+package com.iamhusrev.listener;
+
+import com.iamhusrev.event.RabbitMQConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consumer lag as seen by the broker: messages ready in notification.queue and its consumer count.
+ * Sampled on a schedule so a metrics scrape never turns into a broker round trip.
+ */
+@Component
+@Slf4j
+public class NotificationQueueMetrics {
+
+    private final AmqpAdmin amqpAdmin;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong consumers = new AtomicLong();
+
+    public NotificationQueueMetrics(AmqpAdmin amqpAdmin, MeterRegistry meterRegistry) {
+        this.amqpAdmin = amqpAdmin;
+        Gauge.builder("notification.queue.depth", depth, AtomicLong::get)
+                .description("Messages waiting in " + RabbitMQConfig.NOTIFICATION_QUEUE)
+                .register(meterRegistry);
+        Gauge.builder("notification.queue.consumers", consumers, AtomicLong::get)
+                .description("Consumers attached to " + RabbitMQConfig.NOTIFICATION_QUEUE)
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.listener.lag-sample-interval-ms:5000}")
+    public void sample() {
+        try {
+            QueueInformation info = amqpAdmin.getQueueInfo(RabbitMQConfig.NOTIFICATION_QUEUE);
+            if (info != null) {
+                depth.set(info.getMessageCount());
+                consumers.set(info.getConsumerCount());
+            }
+        } catch (RuntimeException e) {
+            log.debug("Could not sample {}: {}", RabbitMQConfig.NOTIFICATION_QUEUE, e.getMessage());
+        }
+    }
+}
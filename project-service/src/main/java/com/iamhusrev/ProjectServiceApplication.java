@@ -1,11 +1,9 @@
 package com.iamhusrev;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
-import org.springframework.context.annotation.Bean;
 
 @SpringBootApplication
 @EnableFeignClients
@@ -16,9 +14,4 @@ public class ProjectServiceApplication {
 
         SpringApplication.run(ProjectServiceApplication.class, args);
     }
-
-    @Bean
-    public org.modelmapper.ModelMapper modelMapper() {
-        return new ModelMapper();
-    }
 }
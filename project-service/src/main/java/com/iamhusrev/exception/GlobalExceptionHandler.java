@@ -1,8 +1,10 @@
 package com.iamhusrev.exception;
 
 import com.iamhusrev.entity.ResponseWrapper;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.TransactionTimedOutException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -13,23 +15,31 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(ProjectServiceException.class)
-    public ResponseEntity<ResponseWrapper> handleProjectServiceException(ProjectServiceException ex) {
-        ResponseWrapper response = new ResponseWrapper(ex.getMessage(), HttpStatus.BAD_REQUEST);
+    public ResponseEntity<ResponseWrapper<?>> handleProjectServiceException(ProjectServiceException ex) {
+        ResponseWrapper<?> response = new ResponseWrapper<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
-    public ResponseEntity<ResponseWrapper> handleValidationException(MethodArgumentNotValidException ex) {
+    public ResponseEntity<ResponseWrapper<?>> handleValidationException(MethodArgumentNotValidException ex) {
         String errors = ex.getBindingResult().getFieldErrors().stream()
                 .map(error -> error.getField() + ": " + error.getDefaultMessage())
                 .collect(Collectors.joining(", "));
-        ResponseWrapper response = new ResponseWrapper("Validation failed: " + errors, HttpStatus.BAD_REQUEST);
+        ResponseWrapper<?> response = new ResponseWrapper<>("Validation failed: " + errors, HttpStatus.BAD_REQUEST);
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
     }
 
+    // Raised once the request deadline passes (TransactionTimedOutException) or a statement hits the
+    // matching JDBC query timeout (QueryTimeoutException).
+    @ExceptionHandler({TransactionTimedOutException.class, QueryTimeoutException.class})
+    public ResponseEntity<ResponseWrapper<?>> handleDeadlineExceeded(RuntimeException ex) {
+        ResponseWrapper<?> response = new ResponseWrapper<>("Request deadline exceeded: " + ex.getMessage(), HttpStatus.GATEWAY_TIMEOUT);
+        return ResponseEntity.status(HttpStatus.GATEWAY_TIMEOUT).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ResponseWrapper> handleGenericException(Exception ex) {
-        ResponseWrapper response = new ResponseWrapper("An unexpected error occurred: " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    public ResponseEntity<ResponseWrapper<?>> handleGenericException(Exception ex) {
+        ResponseWrapper<?> response = new ResponseWrapper<>("An unexpected error occurred: " + ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
 }
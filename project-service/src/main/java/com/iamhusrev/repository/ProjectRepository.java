@@ -1,20 +1,46 @@
 package com.iamhusrev.repository;
 
 
+import com.iamhusrev.dto.ProjectDTO;
 import com.iamhusrev.entity.Project;
 import com.iamhusrev.entity.User;
 import com.iamhusrev.enums.Status;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project,Long> {
 
+    String PROJECT_DTO_SELECT = "SELECT new com.iamhusrev.dto.ProjectDTO(p.id, p.projectName, p.projectCode, " +
+            "p.startDate, p.endDate, p.projectDetail, p.projectStatus, " +
+            "m.id, m.userName, m.firstName, m.lastName) " +
+            "FROM Project p LEFT JOIN p.assignedManager m ";
+
+    @EntityGraph(Project.GRAPH_DETAILS)
     Project findByProjectCode(String code);
+
+    @EntityGraph(Project.GRAPH_DETAILS)
     List<Project> findAllByAssignedManager(User manager);
 
     List<Project> findAllByAssignedManagerId(Long managerId);
 
+    @EntityGraph(Project.GRAPH_DETAILS)
     List<Project> findAllByProjectStatusIsNot(Status status);
 
+    @Query(PROJECT_DTO_SELECT + "WHERE p.projectCode = ?1")
+    ProjectDTO findProjectDTOByProjectCode(String code);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE p.projectCode IN ?1")
+    List<ProjectDTO> findProjectDTOsByProjectCodeIn(Collection<String> codes);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE p.id IN ?1")
+    List<ProjectDTO> findProjectDTOsByIdIn(Collection<Long> ids);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE p.id > ?1 ORDER BY p.id")
+    List<ProjectDTO> findProjectDTOsAfter(Long id, Limit limit);
+
 }
@@ -1,10 +1,10 @@
 package com.iamhusrev.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamhusrev.dto.BatchLookupDTO;
+import com.iamhusrev.dto.CursorPageDTO;
 import com.iamhusrev.dto.ProjectDTO;
 import com.iamhusrev.dto.UserDTO;
 import com.iamhusrev.entity.Project;
-import com.iamhusrev.entity.ResponseWrapper;
 import com.iamhusrev.entity.User;
 import com.iamhusrev.enums.Status;
 import com.iamhusrev.event.EventPublisher;
@@ -13,10 +13,13 @@ import com.iamhusrev.exception.ProjectServiceException;
 import com.iamhusrev.repository.ProjectRepository;
 import com.iamhusrev.util.MapperUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,22 +28,36 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final MapperUtil mapperUtil;
-    private final UserClientService userClientService;
+    private final UserDirectory userDirectory;
     private final EventPublisher eventPublisher;
-    private final ObjectMapper objectMapper;
 
 
     public ProjectDTO getByProjectCode(String code) {
-        Project project = projectRepository.findByProjectCode(code);
-        if (project == null) {
-            return null;
-        }
-        return mapperUtil.convert(project, new ProjectDTO());
+        return projectRepository.findProjectDTOByProjectCode(code);
     }
 
     public List<ProjectDTO> listAllProjects() {
-        List<Project> list = projectRepository.findAll();
-        return list.stream().map(obj -> mapperUtil.convert(obj, new ProjectDTO())).collect(Collectors.toList());
+        return projectRepository.findProjectDTOsAfter(0L, Limit.of(CursorPageDTO.UNPAGED_LIMIT));
+    }
+
+    // One query per key type; a project matched by both id and code is returned once.
+    public List<ProjectDTO> findAll(BatchLookupDTO lookup) {
+        Map<Long, ProjectDTO> projects = new LinkedHashMap<>();
+        if (lookup.hasIds()) {
+            projectRepository.findProjectDTOsByIdIn(lookup.getIds()).forEach(project -> projects.put(project.getId(), project));
+        }
+        if (lookup.hasKeys()) {
+            projectRepository.findProjectDTOsByProjectCodeIn(lookup.getKeys())
+                    .forEach(project -> projects.putIfAbsent(project.getId(), project));
+        }
+        return List.copyOf(projects.values());
+    }
+
+    public CursorPageDTO<ProjectDTO> listProjectsPage(Integer limit, Long after) {
+        int pageSize = CursorPageDTO.resolveLimit(limit);
+        List<ProjectDTO> list = projectRepository.findProjectDTOsAfter(CursorPageDTO.resolveCursor(after),
+                Limit.of(pageSize + 1));
+        return CursorPageDTO.of(list, pageSize, ProjectDTO::getId);
     }
 
     @Transactional
@@ -113,8 +130,7 @@ public class ProjectService {
 
     public List<ProjectDTO> listAllProjectDetails(String userName) throws ProjectServiceException {
 
-        ResponseWrapper response = userClientService.getUserByUserName(userName);
-        UserDTO user = response == null ? null : objectMapper.convertValue(response.getData(), UserDTO.class);
+        UserDTO user = userDirectory.find(userName);
 
         if (user != null) {
             List<Project> list = projectRepository.findAllByAssignedManagerId(user.getId());
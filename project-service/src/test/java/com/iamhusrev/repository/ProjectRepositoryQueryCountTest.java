@@ -0,0 +1,103 @@
+package com.iamhusrev.repository;
+
+import com.iamhusrev.entity.Project;
+import com.iamhusrev.entity.Role;
+import com.iamhusrev.entity.User;
+import com.iamhusrev.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.iamhusrev.util.QueryCountInspector.statements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Project lists load the manager and its role in one statement, however many projects match.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.iamhusrev.util.QueryCountInspector"
+})
+class ProjectRepositoryQueryCountTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User firstManager;
+
+    @BeforeEach
+    void setUp() {
+        Role managerRole = entityManager.persist(new Role("Manager"));
+        firstManager = entityManager.persist(user("manager1", managerRole));
+        User secondManager = entityManager.persist(user("manager2", managerRole));
+
+        entityManager.persist(project("P1", firstManager, Status.OPEN));
+        entityManager.persist(project("P2", firstManager, Status.IN_PROGRESS));
+        entityManager.persist(project("P3", secondManager, Status.OPEN));
+        entityManager.persist(project("P4", secondManager, Status.COMPLETE));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllByAssignedManagerLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> projectRepository.findAllByAssignedManager(firstManager));
+    }
+
+    @Test
+    void findAllByProjectStatusIsNotLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> projectRepository.findAllByProjectStatusIsNot(Status.COMPLETE));
+    }
+
+    @Test
+    void findByProjectCodeLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> List.of(projectRepository.findByProjectCode("P1")));
+    }
+
+    @Test
+    void projectDTOListsAreOneStatement() {
+        assertThat(statements(() -> projectRepository.findProjectDTOsAfter(0L, Limit.of(10)))).isEqualTo(1);
+        assertThat(statements(() -> projectRepository.findProjectDTOsByProjectCodeIn(Set.of("P1", "P3")))).isEqualTo(1);
+    }
+
+    // Touches every association the Project -> ProjectDTO mapping reads.
+    private static void assertSingleStatement(Supplier<List<Project>> query) {
+        assertThat(statements(() -> assertThat(query.get()).isNotEmpty()
+                .allSatisfy(project -> project.getAssignedManager().getRole().getDescription())))
+                .as("SQL statements").isEqualTo(1);
+    }
+
+    private static User user(String userName, Role role) {
+        User user = new User();
+        user.setUserName(userName);
+        user.setRole(role);
+        return user;
+    }
+
+    private static Project project(String code, User manager, Status status) {
+        Project project = new Project();
+        project.setProjectCode(code);
+        project.setAssignedManager(manager);
+        project.setProjectStatus(status);
+        return project;
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    @EntityScan(basePackageClasses = Project.class)
+    static class TestConfig {
+    }
+}
@@ -1,8 +1,12 @@
 package com.iamhusrev.controller;
 
+import com.iamhusrev.dto.BatchLookupDTO;
+import com.iamhusrev.dto.CursorPageDTO;
+import com.iamhusrev.dto.TaskBatchDTO;
 import com.iamhusrev.dto.TaskDTO;
 import com.iamhusrev.entity.ResponseWrapper;
 import com.iamhusrev.enums.Status;
+import com.iamhusrev.exception.TaskServiceException;
 import com.iamhusrev.service.TaskService;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import jakarta.validation.Valid;
@@ -23,85 +27,146 @@ public class TaskController {
 
     @GetMapping
     @CircuitBreaker(name = "task-service", fallbackMethod = "getTasksFallback")
-    public ResponseEntity<ResponseWrapper> getTasks() {
+    public ResponseEntity<ResponseWrapper<?>> getTasks() {
         List<TaskDTO> taskDTOList = taskService.listAllTasks();
-        return ResponseEntity.ok(new ResponseWrapper("Task are successfully retrieved", taskDTOList, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Task are successfully retrieved", taskDTOList, HttpStatus.OK));
+    }
+
+    @GetMapping(params = "limit")
+    @CircuitBreaker(name = "task-service", fallbackMethod = "getTasksPageFallback")
+    public ResponseEntity<ResponseWrapper<?>> getTasksPage(@RequestParam Integer limit,
+                                                        @RequestParam(required = false) Long after) {
+        CursorPageDTO<TaskDTO> page = taskService.listTasksPage(limit, after);
+        return ResponseEntity.ok(new ResponseWrapper<>("Task are successfully retrieved", page, HttpStatus.OK));
     }
 
     @GetMapping("/{taskId}")
     @CircuitBreaker(name = "task-service", fallbackMethod = "getTaskByIdFallback")
-    public ResponseEntity<ResponseWrapper> getTaskById(@PathVariable Long taskId) {
+    public ResponseEntity<ResponseWrapper<?>> getTaskById(@PathVariable Long taskId) {
         TaskDTO taskDTO = taskService.findById(taskId);
-        return ResponseEntity.ok(new ResponseWrapper("Task is successfully retrieved", taskDTO, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Task is successfully retrieved", taskDTO, HttpStatus.OK));
     }
 
     @PostMapping
     @CircuitBreaker(name = "task-service", fallbackMethod = "createUpdateFallback")
-    public ResponseEntity<ResponseWrapper> createTask(@Valid @RequestBody TaskDTO taskDTO) {
+    public ResponseEntity<ResponseWrapper<?>> createTask(@Valid @RequestBody TaskDTO taskDTO) {
         taskService.save(taskDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new ResponseWrapper("Task is successfully created", HttpStatus.CREATED));
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ResponseWrapper<>("Task is successfully created", HttpStatus.CREATED));
+    }
+
+    // POST /batch already creates tasks, so the multi-get lives one level down.
+    @PostMapping("/batch/lookup")
+    @CircuitBreaker(name = "task-service", fallbackMethod = "batchLookupFallback")
+    public ResponseEntity<ResponseWrapper<?>> getTasksBatch(@Valid @RequestBody BatchLookupDTO lookup) {
+        List<TaskDTO> tasks = taskService.findAll(lookup);
+        return ResponseEntity.ok(new ResponseWrapper<>("Tasks are successfully retrieved", tasks, HttpStatus.OK));
+    }
+
+    @PostMapping("/batch")
+    @CircuitBreaker(name = "task-service", fallbackMethod = "batchFallback")
+    public ResponseEntity<ResponseWrapper<?>> createTasks(@Valid @RequestBody TaskBatchDTO batch) throws TaskServiceException {
+        List<Long> ids = taskService.saveAll(batch.getTasks());
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ResponseWrapper<>("Tasks are successfully created", ids, HttpStatus.CREATED));
+    }
+
+    @PutMapping("/batch")
+    @CircuitBreaker(name = "task-service", fallbackMethod = "batchFallback")
+    public ResponseEntity<ResponseWrapper<?>> updateTasks(@Valid @RequestBody TaskBatchDTO batch) throws TaskServiceException {
+        List<Long> ids = taskService.updateAll(batch.getTasks());
+        return ResponseEntity.ok(new ResponseWrapper<>("Tasks are successfully updated", ids, HttpStatus.OK));
     }
 
     @DeleteMapping("/{taskId}")
     @CircuitBreaker(name = "task-service", fallbackMethod = "deleteTaskFallback")
-    public ResponseEntity<ResponseWrapper> deleteTask(@PathVariable Long taskId) {
+    public ResponseEntity<ResponseWrapper<?>> deleteTask(@PathVariable Long taskId) {
         taskService.delete(taskId);
-        return ResponseEntity.ok(new ResponseWrapper("Task is successfully deleted", HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Task is successfully deleted", HttpStatus.OK));
     }
 
     @PutMapping
     @CircuitBreaker(name = "task-service", fallbackMethod = "createUpdateFallback")
-    public ResponseEntity<ResponseWrapper> updateTask(@Valid @RequestBody TaskDTO taskDTO) {
+    public ResponseEntity<ResponseWrapper<?>> updateTask(@Valid @RequestBody TaskDTO taskDTO) {
         taskService.update(taskDTO);
-        return ResponseEntity.ok(new ResponseWrapper("Task is successfully updated", HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Task is successfully updated", HttpStatus.OK));
     }
 
     @GetMapping("/employee/pending-tasks/{userName}")
     @CircuitBreaker(name = "task-service", fallbackMethod = "employeePendingTasksFallback")
-    public ResponseEntity<ResponseWrapper> employeePendingTasks(@PathVariable String userName) {
+    public ResponseEntity<ResponseWrapper<?>> employeePendingTasks(@PathVariable String userName) {
         List<TaskDTO> taskDTOList = taskService.listAllTasksByStatusIsNot(Status.COMPLETE, userName);
-        return ResponseEntity.ok(new ResponseWrapper("Tasks are successfully retrieved", taskDTOList, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Tasks are successfully retrieved", taskDTOList, HttpStatus.OK));
     }
 
     @PutMapping("/employee/update/")
     @CircuitBreaker(name = "task-service", fallbackMethod = "createUpdateFallback")
-    public ResponseEntity<ResponseWrapper> employeeUpdateTasks(@RequestBody TaskDTO task) {
+    public ResponseEntity<ResponseWrapper<?>> employeeUpdateTasks(@RequestBody TaskDTO task) {
         taskService.updateStatus(task);
-        return ResponseEntity.ok(new ResponseWrapper("Task is successfully updated", HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Task is successfully updated", HttpStatus.OK));
     }
 
     @GetMapping("/employee/archive/{userName}")
     @CircuitBreaker(name = "task-service", fallbackMethod = "employeeArchivedTasksFallback")
-    public ResponseEntity<ResponseWrapper> employeeArchivedTasks(@PathVariable String userName) {
+    public ResponseEntity<ResponseWrapper<?>> employeeArchivedTasks(@PathVariable String userName) {
         List<TaskDTO> taskDTOS = taskService.listAllTasksByStatus(Status.COMPLETE, userName);
-        return ResponseEntity.ok(new ResponseWrapper("Tasks are successfully retrieved", taskDTOS, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Tasks are successfully retrieved", taskDTOS, HttpStatus.OK));
+    }
+
+    @GetMapping(value = "/employee/archive/{userName}", params = "limit")
+    @CircuitBreaker(name = "task-service", fallbackMethod = "employeeArchivedTasksPageFallback")
+    public ResponseEntity<ResponseWrapper<?>> employeeArchivedTasksPage(@PathVariable String userName,
+                                                                     @RequestParam Integer limit,
+                                                                     @RequestParam(required = false) Long after) {
+        CursorPageDTO<TaskDTO> page = taskService.listTasksByStatusPage(Status.COMPLETE, userName, limit, after);
+        return ResponseEntity.ok(new ResponseWrapper<>("Tasks are successfully retrieved", page, HttpStatus.OK));
     }
 
     // -------------------------------------------------------------------------
     // FALLBACK BRIDGE METHODS
     // -------------------------------------------------------------------------
 
-    public ResponseEntity<ResponseWrapper> getTasksFallback(Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> getTasksFallback(Throwable t) {
         return fallbackHandler.handleListFallback(t);
     }
 
-    public ResponseEntity<ResponseWrapper> getTaskByIdFallback(Long taskId, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> getTasksPageFallback(Integer limit, Long after, Throwable t) {
+        return fallbackHandler.handleListFallback(t);
+    }
+
+    public ResponseEntity<ResponseWrapper<?>> getTaskByIdFallback(Long taskId, Throwable t) {
         return fallbackHandler.handleSingleResourceFallback(taskId, t);
     }
 
-    public ResponseEntity<ResponseWrapper> createUpdateFallback(TaskDTO task, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> createUpdateFallback(TaskDTO task, Throwable t) {
         return fallbackHandler.handleModificationFallback(task, t);
     }
 
-    public ResponseEntity<ResponseWrapper> deleteTaskFallback(Long taskId, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> batchLookupFallback(BatchLookupDTO lookup, Throwable t) {
+        return fallbackHandler.handleListFallback(t);
+    }
+
+    public ResponseEntity<ResponseWrapper<?>> batchFallback(TaskBatchDTO batch, Throwable t) {
+        return fallbackHandler.handleBatchFallback(batch, t);
+    }
+
+    // A rejected batch is the client's mistake, not an outage: let GlobalExceptionHandler answer 400.
+    public ResponseEntity<ResponseWrapper<?>> batchFallback(TaskBatchDTO batch, TaskServiceException e) throws TaskServiceException {
+        throw e;
+    }
+
+    public ResponseEntity<ResponseWrapper<?>> deleteTaskFallback(Long taskId, Throwable t) {
         return fallbackHandler.handleActionFallback(taskId, t);
     }
 
-    public ResponseEntity<ResponseWrapper> employeePendingTasksFallback(String userName, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> employeePendingTasksFallback(String userName, Throwable t) {
+        return fallbackHandler.handleListFallback(t);
+    }
+
+    public ResponseEntity<ResponseWrapper<?>> employeeArchivedTasksFallback(String userName, Throwable t) {
         return fallbackHandler.handleListFallback(t);
     }
 
-    public ResponseEntity<ResponseWrapper> employeeArchivedTasksFallback(String userName, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> employeeArchivedTasksPageFallback(String userName, Integer limit, Long after,
+                                                                             Throwable t) {
         return fallbackHandler.handleListFallback(t);
     }
 }
\ No newline at end of file
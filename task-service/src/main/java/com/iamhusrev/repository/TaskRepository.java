@@ -1,16 +1,28 @@
 package com.iamhusrev.repository;
 
+import com.iamhusrev.dto.TaskDTO;
 import com.iamhusrev.entity.Project;
 import com.iamhusrev.entity.Task;
 import com.iamhusrev.entity.User;
 import com.iamhusrev.enums.Status;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    String TASK_DTO_SELECT = "SELECT new com.iamhusrev.dto.TaskDTO(t.id, t.taskSubject, t.taskDetail, t.taskStatus, " +
+            "t.assignedDate, p.id, p.projectCode, p.projectName, p.projectStatus, " +
+            "e.id, e.userName, e.firstName, e.lastName) " +
+            "FROM Task t LEFT JOIN t.project p LEFT JOIN t.assignedEmployee e ";
+
 
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.projectCode = ?1 AND t.taskStatus <> 'COMPLETE' ")
     int totalNonCompletedTasks(String projectCode);
@@ -18,12 +30,41 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT COUNT(t) FROM Task t WHERE t.project.projectCode = ?1 AND t.taskStatus = com.iamhusrev.enums.Status.COMPLETE")
     int totalCompletedTasks(String projectCode);
 
+    @EntityGraph(Task.GRAPH_DETAILS)
     List<Task> findAllByProject(Project project);
 
+    @Modifying
+    @Query("UPDATE Task t SET t.taskStatus = com.iamhusrev.enums.Status.COMPLETE, t.lastUpdateDateTime = ?2 " +
+            "WHERE t.project.id = ?1 AND t.taskStatus <> com.iamhusrev.enums.Status.COMPLETE AND t.isDeleted = false")
+    int completeAllByProjectId(Long projectId, LocalDateTime updatedAt);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.isDeleted = true, t.lastUpdateDateTime = ?2 " +
+            "WHERE t.project.id = ?1 AND t.isDeleted = false")
+    int softDeleteAllByProjectId(Long projectId, LocalDateTime updatedAt);
+
+    @EntityGraph(Task.GRAPH_DETAILS)
     List<Task> findAllByTaskStatusIsNotAndAssignedEmployee(Status status, User assignedEmployee);
 
+    @EntityGraph(Task.GRAPH_DETAILS)
     List<Task> findAllByTaskStatusAndAssignedEmployee(Status status, User assignedEmployee);
 
+    @EntityGraph(Task.GRAPH_DETAILS)
     List<Task> findAllByAssignedEmployee(User assignedEmployee);
 
+    @Query(TASK_DTO_SELECT + "WHERE t.id = ?1")
+    Optional<TaskDTO> findTaskDTOById(Long id);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.id IN ?1 ORDER BY t.id")
+    List<TaskDTO> findTaskDTOsByIdIn(Collection<Long> ids);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.id > ?1 ORDER BY t.id")
+    List<TaskDTO> findTaskDTOsAfter(Long id, Limit limit);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.taskStatus <> ?1 AND e.id = ?2 ORDER BY t.id")
+    List<TaskDTO> findTaskDTOsByStatusIsNotAndEmployee(Status status, Long employeeId);
+
+    @Query(TASK_DTO_SELECT + "WHERE t.taskStatus = ?1 AND e.id = ?2 AND t.id > ?3 ORDER BY t.id")
+    List<TaskDTO> findTaskDTOsByStatusAndEmployeeAfter(Status status, Long employeeId, Long id, Limit limit);
+
 }
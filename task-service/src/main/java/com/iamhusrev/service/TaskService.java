@@ -1,25 +1,32 @@
 package com.iamhusrev.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iamhusrev.dto.BatchLookupDTO;
+import com.iamhusrev.dto.CursorPageDTO;
 import com.iamhusrev.dto.ProjectDTO;
 import com.iamhusrev.dto.TaskDTO;
 import com.iamhusrev.dto.UserDTO;
-import com.iamhusrev.entity.Project;
-import com.iamhusrev.entity.ResponseWrapper;
 import com.iamhusrev.entity.Task;
 import com.iamhusrev.entity.User;
 import com.iamhusrev.enums.Status;
 import com.iamhusrev.event.EventPublisher;
+import com.iamhusrev.event.TaskBulkEvent;
 import com.iamhusrev.event.TaskEvent;
+import com.iamhusrev.exception.TaskServiceException;
 import com.iamhusrev.repository.TaskRepository;
 import com.iamhusrev.util.MapperUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,19 +35,27 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final MapperUtil mapperUtil;
-    private final UserClientService userClientService;
+    private final UserDirectory userDirectory;
     private final EventPublisher eventPublisher;
-    private final ObjectMapper objectMapper;
 
 
     public TaskDTO findById(Long id) {
-        Optional<Task> task = taskRepository.findById(id);
-        return task.map(value -> mapperUtil.convert(value, new TaskDTO())).orElse(null);
+        return taskRepository.findTaskDTOById(id).orElse(null);
+    }
+
+    // Tasks have no natural key, so only ids are looked up.
+    public List<TaskDTO> findAll(BatchLookupDTO lookup) {
+        return lookup.hasIds() ? taskRepository.findTaskDTOsByIdIn(lookup.getIds()) : List.of();
     }
 
     public List<TaskDTO> listAllTasks() {
-        List<Task> list = taskRepository.findAll();
-        return list.stream().map(obj -> mapperUtil.convert(obj, new TaskDTO())).collect(Collectors.toList());
+        return taskRepository.findTaskDTOsAfter(0L, Limit.of(CursorPageDTO.UNPAGED_LIMIT));
+    }
+
+    public CursorPageDTO<TaskDTO> listTasksPage(Integer limit, Long after) {
+        int pageSize = CursorPageDTO.resolveLimit(limit);
+        List<TaskDTO> list = taskRepository.findTaskDTOsAfter(CursorPageDTO.resolveCursor(after), Limit.of(pageSize + 1));
+        return CursorPageDTO.of(list, pageSize, TaskDTO::getId);
     }
 
     @Transactional
@@ -56,6 +71,48 @@ public class TaskService {
                 Status.OPEN));
     }
 
+    @Transactional
+    public List<Long> saveAll(List<TaskDTO> dtos) throws TaskServiceException {
+        resolveAssignees(dtos);
+        List<Task> tasks = dtos.stream().map(dto -> {
+            dto.setTaskStatus(Status.OPEN);
+            dto.setAssignedDate(LocalDate.now());
+            return mapperUtil.convert(dto, new Task());
+        }).collect(Collectors.toList());
+
+        List<Long> ids = taskRepository.saveAll(tasks).stream().map(Task::getId).collect(Collectors.toList());
+
+        publishBulk("task.bulk-created", dtos, Status.OPEN, ids);
+        return ids;
+    }
+
+    // All or nothing: a batch naming a task that doesn't exist (or has no id) is rejected as a whole.
+    @Transactional
+    public List<Long> updateAll(List<TaskDTO> dtos) throws TaskServiceException {
+        Map<Long, Task> existing = taskRepository.findAllById(dtos.stream().map(TaskDTO::getId)
+                        .filter(Objects::nonNull).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        List<Long> unknown = dtos.stream().map(TaskDTO::getId).filter(id -> !existing.containsKey(id)).toList();
+        if (!unknown.isEmpty()) {
+            throw new TaskServiceException("Unknown or missing task ids: " + unknown);
+        }
+        resolveAssignees(dtos);
+
+        List<Task> tasks = dtos.stream().map(dto -> {
+            Task task = existing.get(dto.getId());
+            Task convertedTask = mapperUtil.convert(dto, new Task());
+            convertedTask.setId(task.getId());
+            convertedTask.setTaskStatus(dto.getTaskStatus() == null ? task.getTaskStatus() : dto.getTaskStatus());
+            convertedTask.setAssignedDate(task.getAssignedDate());
+            return convertedTask;
+        }).collect(Collectors.toList());
+
+        List<Long> ids = taskRepository.saveAll(tasks).stream().map(Task::getId).collect(Collectors.toList());
+
+        publishBulk("task.bulk-updated", dtos, null, ids);
+        return ids;
+    }
+
     @Transactional
     public void update(TaskDTO dto) {
 
@@ -99,32 +156,33 @@ public class TaskService {
         return taskRepository.totalCompletedTasks(projectCode);
     }
 
-    public void deleteByProject(ProjectDTO project) {
-        List<TaskDTO> list = listAllByProject(project);
-        list.forEach(taskDTO -> delete(taskDTO.getId()));
-    }
+    @Transactional
+    public int deleteByProject(ProjectDTO project) {
+        int deleted = taskRepository.softDeleteAllByProjectId(project.getId(), LocalDateTime.now());
 
-    public void completeByProject(ProjectDTO project) {
-        List<TaskDTO> list = listAllByProject(project);
-        list.forEach(taskDTO -> {
-            taskDTO.setTaskStatus(Status.COMPLETE);
-            update(taskDTO);
-        });
+        if (deleted > 0) {
+            eventPublisher.publish(new TaskBulkEvent("task.bulk-deleted", project.getId(), project.getProjectCode(),
+                    null, deleted));
+        }
+        return deleted;
     }
 
-    public List<TaskDTO> listAllTasksByStatusIsNot(Status status, String userName) {
-
-        ResponseWrapper response = userClientService.getUserByUserName(userName);
-        UserDTO userDto = response == null ? null : objectMapper.convertValue(response.getData(), UserDTO.class);
+    @Transactional
+    public int completeByProject(ProjectDTO project) {
+        int completed = taskRepository.completeAllByProjectId(project.getId(), LocalDateTime.now());
 
-        if (userDto == null) {
-            throw new IllegalArgumentException("User not found: " + userName);
+        if (completed > 0) {
+            eventPublisher.publish(new TaskBulkEvent("task.bulk-completed", project.getId(), project.getProjectCode(),
+                    Status.COMPLETE, completed));
         }
+        return completed;
+    }
+
+    public List<TaskDTO> listAllTasksByStatusIsNot(Status status, String userName) {
 
-        User loggedInUser = mapperUtil.convert(userDto, new User());
+        UserDTO loggedInUser = findUser(userName);
 
-        List<Task> list = taskRepository.findAllByTaskStatusIsNotAndAssignedEmployee(status, loggedInUser);
-        return list.stream().map(obj -> mapperUtil.convert(obj, new TaskDTO())).collect(Collectors.toList());
+        return taskRepository.findTaskDTOsByStatusIsNotAndEmployee(status, loggedInUser.getId());
     }
 
     @Transactional
@@ -143,17 +201,19 @@ public class TaskService {
     }
 
     public List<TaskDTO> listAllTasksByStatus(Status status, String userName) {
-        ResponseWrapper response = userClientService.getUserByUserName(userName);
-        UserDTO userDto = response == null ? null : objectMapper.convertValue(response.getData(), UserDTO.class);
+        UserDTO loggedInUser = findUser(userName);
 
-        if (userDto == null) {
-            throw new IllegalArgumentException("User not found: " + userName);
-        }
+        return taskRepository.findTaskDTOsByStatusAndEmployeeAfter(status, loggedInUser.getId(), 0L,
+                Limit.of(CursorPageDTO.UNPAGED_LIMIT));
+    }
 
-        User loggedInUser = mapperUtil.convert(userDto, new User());
+    public CursorPageDTO<TaskDTO> listTasksByStatusPage(Status status, String userName, Integer limit, Long after) {
+        UserDTO loggedInUser = findUser(userName);
 
-        List<Task> list = taskRepository.findAllByTaskStatusAndAssignedEmployee(status, loggedInUser);
-        return list.stream().map(obj -> mapperUtil.convert(obj, new TaskDTO())).collect(Collectors.toList());
+        int pageSize = CursorPageDTO.resolveLimit(limit);
+        List<TaskDTO> list = taskRepository.findTaskDTOsByStatusAndEmployeeAfter(status, loggedInUser.getId(),
+                CursorPageDTO.resolveCursor(after), Limit.of(pageSize + 1));
+        return CursorPageDTO.of(list, pageSize, TaskDTO::getId);
     }
 
     public List<TaskDTO> readAllByAssignedEmployee(User assignedEmployee) {
@@ -161,10 +221,52 @@ public class TaskService {
         return list.stream().map(obj -> mapperUtil.convert(obj, new TaskDTO())).collect(Collectors.toList());
     }
 
-    private List<TaskDTO> listAllByProject(ProjectDTO project) {
+    // One event per batch; project fields are only filled in when every task in the batch shares the project.
+    private void publishBulk(String eventType, List<TaskDTO> dtos, Status status, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
 
-        List<Task> list = taskRepository.findAllByProject(mapperUtil.convert(project, new Project()));
-        return list.stream().map(obj -> mapperUtil.convert(obj, new TaskDTO())).collect(Collectors.toList());
+        ProjectDTO first = dtos.get(0).getProject();
+        boolean sameProject = first != null && dtos.stream()
+                .allMatch(dto -> dto.getProject() != null && Objects.equals(dto.getProject().getProjectCode(), first.getProjectCode()));
+        ProjectDTO project = sameProject ? first : null;
+
+        eventPublisher.publish(new TaskBulkEvent(eventType, project != null ? project.getId() : null,
+                project != null ? project.getProjectCode() : null, status, ids));
+    }
+
+    // A batch names its assignees by user name; all of them are looked up in one go and must exist.
+    private void resolveAssignees(List<TaskDTO> dtos) throws TaskServiceException {
+        Set<String> userNames = dtos.stream()
+                .map(TaskDTO::getAssignedEmployee)
+                .filter(Objects::nonNull)
+                .map(UserDTO::getUserName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, UserDTO> users = userDirectory.findAll(userNames);
+
+        for (TaskDTO dto : dtos) {
+            UserDTO assignee = dto.getAssignedEmployee();
+            if (assignee == null || assignee.getUserName() == null) {
+                continue;
+            }
+            UserDTO user = users.get(assignee.getUserName());
+            if (user == null) {
+                throw new TaskServiceException("User not found: " + assignee.getUserName());
+            }
+            assignee.setId(user.getId());
+        }
+    }
+
+    private UserDTO findUser(String userName) {
+        UserDTO user = userDirectory.find(userName);
+
+        if (user == null) {
+            throw new IllegalArgumentException("User not found: " + userName);
+        }
+
+        return user;
     }
 
 }
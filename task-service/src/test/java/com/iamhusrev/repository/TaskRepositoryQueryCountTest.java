@@ -0,0 +1,123 @@
+package com.iamhusrev.repository;
+
+import com.iamhusrev.entity.Project;
+import com.iamhusrev.entity.Role;
+import com.iamhusrev.entity.Task;
+import com.iamhusrev.entity.User;
+import com.iamhusrev.enums.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.iamhusrev.util.QueryCountInspector.statements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Task lists load project, manager, assignee and their roles in one statement, however many tasks match.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.iamhusrev.util.QueryCountInspector"
+})
+class TaskRepositoryQueryCountTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User firstEmployee;
+    private Project firstProject;
+
+    @BeforeEach
+    void setUp() {
+        Role managerRole = entityManager.persist(new Role("Manager"));
+        Role employeeRole = entityManager.persist(new Role("Employee"));
+        firstEmployee = entityManager.persist(user("employee1", employeeRole));
+        User secondEmployee = entityManager.persist(user("employee2", employeeRole));
+        firstProject = entityManager.persist(project("P1", entityManager.persist(user("manager1", managerRole))));
+        Project secondProject = entityManager.persist(project("P2", entityManager.persist(user("manager2", managerRole))));
+
+        entityManager.persist(task(firstProject, firstEmployee, Status.OPEN));
+        entityManager.persist(task(secondProject, firstEmployee, Status.IN_PROGRESS));
+        entityManager.persist(task(firstProject, secondEmployee, Status.OPEN));
+        entityManager.persist(task(secondProject, secondEmployee, Status.COMPLETE));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllByProjectLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> taskRepository.findAllByProject(firstProject));
+    }
+
+    @Test
+    void findAllByAssignedEmployeeLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> taskRepository.findAllByAssignedEmployee(firstEmployee));
+    }
+
+    @Test
+    void findAllByTaskStatusIsNotAndAssignedEmployeeLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> taskRepository.findAllByTaskStatusIsNotAndAssignedEmployee(Status.COMPLETE, firstEmployee));
+    }
+
+    @Test
+    void findAllByTaskStatusAndAssignedEmployeeLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> taskRepository.findAllByTaskStatusAndAssignedEmployee(Status.OPEN, firstEmployee));
+    }
+
+    @Test
+    void taskDTOPagesAreOneStatement() {
+        assertThat(statements(() -> taskRepository.findTaskDTOsAfter(0L, Limit.of(10)))).isEqualTo(1);
+        assertThat(statements(() -> taskRepository.findTaskDTOsByStatusIsNotAndEmployee(Status.COMPLETE, firstEmployee.getId())))
+                .isEqualTo(1);
+        assertThat(statements(() -> taskRepository.findTaskDTOsByStatusAndEmployeeAfter(Status.OPEN, firstEmployee.getId(), 0L,
+                Limit.of(10)))).isEqualTo(1);
+    }
+
+    // Touches every association the Task -> TaskDTO mapping reads.
+    private static void assertSingleStatement(Supplier<List<Task>> query) {
+        assertThat(statements(() -> assertThat(query.get()).isNotEmpty().allSatisfy(task -> {
+            task.getProject().getAssignedManager().getRole().getDescription();
+            task.getAssignedEmployee().getRole().getDescription();
+        }))).as("SQL statements").isEqualTo(1);
+    }
+
+    private static User user(String userName, Role role) {
+        User user = new User();
+        user.setUserName(userName);
+        user.setRole(role);
+        return user;
+    }
+
+    private static Project project(String code, User manager) {
+        Project project = new Project();
+        project.setProjectCode(code);
+        project.setAssignedManager(manager);
+        return project;
+    }
+
+    private static Task task(Project project, User employee, Status status) {
+        Task task = new Task();
+        task.setProject(project);
+        task.setAssignedEmployee(employee);
+        task.setTaskStatus(status);
+        return task;
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    @EntityScan(basePackageClasses = Task.class)
+    static class TestConfig {
+    }
+}
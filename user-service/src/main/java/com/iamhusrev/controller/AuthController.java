@@ -18,30 +18,30 @@ public class AuthController {
     private final AuthService authService;
 
     @PostMapping("/register")
-    public ResponseEntity<ResponseWrapper> register(@Valid @RequestBody RegisterRequestDTO request)
+    public ResponseEntity<ResponseWrapper<?>> register(@Valid @RequestBody RegisterRequestDTO request)
             throws UserServiceException {
         AuthResponseDTO response = authService.register(request);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new ResponseWrapper("User registered successfully", response, HttpStatus.CREATED));
+                .body(new ResponseWrapper<>("User registered successfully", response, HttpStatus.CREATED));
     }
 
     @PostMapping("/login")
-    public ResponseEntity<ResponseWrapper> login(@Valid @RequestBody LoginRequestDTO request)
+    public ResponseEntity<ResponseWrapper<?>> login(@Valid @RequestBody LoginRequestDTO request)
             throws UserServiceException {
         AuthResponseDTO response = authService.login(request);
-        return ResponseEntity.ok(new ResponseWrapper("Login successful", response, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Login successful", response, HttpStatus.OK));
     }
 
     @PostMapping("/refresh")
-    public ResponseEntity<ResponseWrapper> refreshToken(@Valid @RequestBody RefreshTokenRequestDTO request)
+    public ResponseEntity<ResponseWrapper<?>> refreshToken(@Valid @RequestBody RefreshTokenRequestDTO request)
             throws UserServiceException {
         AuthResponseDTO response = authService.refreshToken(request);
-        return ResponseEntity.ok(new ResponseWrapper("Token refreshed successfully", response, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Token refreshed successfully", response, HttpStatus.OK));
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ResponseWrapper> logout(@Valid @RequestBody RefreshTokenRequestDTO request) {
+    public ResponseEntity<ResponseWrapper<?>> logout(@Valid @RequestBody RefreshTokenRequestDTO request) {
         authService.logout(request);
-        return ResponseEntity.ok(new ResponseWrapper("Logged out successfully", HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Logged out successfully", HttpStatus.OK));
     }
 }
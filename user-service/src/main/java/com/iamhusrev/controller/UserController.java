@@ -1,5 +1,7 @@
 package com.iamhusrev.controller;
 
+import com.iamhusrev.dto.BatchLookupDTO;
+import com.iamhusrev.dto.CursorPageDTO;
 import com.iamhusrev.dto.UserDTO;
 import com.iamhusrev.entity.ResponseWrapper;
 import com.iamhusrev.exception.UserServiceException;
@@ -25,52 +27,75 @@ public class UserController {
 
     @GetMapping
     @CircuitBreaker(name = "user-service", fallbackMethod = "getUsersFallback")
-    public ResponseEntity<ResponseWrapper> getUsers() {
+    public ResponseEntity<ResponseWrapper<?>> getUsers() {
         List<UserDTO> userDTOList = userService.listAllUsers();
-        return ResponseEntity.ok(new ResponseWrapper("Users are successfully retrieved", userDTOList, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("Users are successfully retrieved", userDTOList, HttpStatus.OK));
+    }
+
+    @GetMapping(params = "limit")
+    @CircuitBreaker(name = "user-service", fallbackMethod = "getUsersPageFallback")
+    public ResponseEntity<ResponseWrapper<?>> getUsersPage(@RequestParam Integer limit,
+                                                        @RequestParam(required = false) Long after) {
+        CursorPageDTO<UserDTO> page = userService.listUsersPage(limit, after);
+        return ResponseEntity.ok(new ResponseWrapper<>("Users are successfully retrieved", page, HttpStatus.OK));
     }
 
     @GetMapping("/{userName}")
     @CircuitBreaker(name = "user-service", fallbackMethod = "getUserByUserNameFallback")
-    public ResponseEntity<ResponseWrapper> getUserByUserName(@PathVariable String userName) throws AccessDeniedException {
+    public ResponseEntity<ResponseWrapper<?>> getUserByUserName(@PathVariable String userName) throws AccessDeniedException {
         UserDTO user = userService.findByUserName(userName);
-        return ResponseEntity.ok(new ResponseWrapper("User is successfully retrieved", user, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("User is successfully retrieved", user, HttpStatus.OK));
+    }
+
+    @PostMapping("/batch")
+    @CircuitBreaker(name = "user-service", fallbackMethod = "batchLookupFallback")
+    public ResponseEntity<ResponseWrapper<?>> getUsersBatch(@Valid @RequestBody BatchLookupDTO lookup) {
+        List<UserDTO> users = userService.findAll(lookup);
+        return ResponseEntity.ok(new ResponseWrapper<>("Users are successfully retrieved", users, HttpStatus.OK));
     }
 
     @PostMapping
     @CircuitBreaker(name = "user-service", fallbackMethod = "createUpdateFallback")
-    public ResponseEntity<ResponseWrapper> createUser(@Valid @RequestBody UserDTO user) throws UserServiceException {
+    public ResponseEntity<ResponseWrapper<?>> createUser(@Valid @RequestBody UserDTO user) throws UserServiceException {
         userService.save(user);
-        return ResponseEntity.status(HttpStatus.CREATED).body(new ResponseWrapper("User is successfully created", HttpStatus.CREATED));
+        return ResponseEntity.status(HttpStatus.CREATED).body(new ResponseWrapper<>("User is successfully created", HttpStatus.CREATED));
     }
 
     @PutMapping
     @CircuitBreaker(name = "user-service", fallbackMethod = "createUpdateFallback")
-    public ResponseEntity<ResponseWrapper> updateUser(@Valid @RequestBody UserDTO user) throws UserServiceException, AccessDeniedException {
+    public ResponseEntity<ResponseWrapper<?>> updateUser(@Valid @RequestBody UserDTO user) throws UserServiceException, AccessDeniedException {
         userService.update(user);
-        return ResponseEntity.ok(new ResponseWrapper("User is successfully updated", user, HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("User is successfully updated", user, HttpStatus.OK));
     }
 
     @DeleteMapping("/{userName}")
     @CircuitBreaker(name = "user-service", fallbackMethod = "deleteUserFallback")
-    public ResponseEntity<ResponseWrapper> deleteUser(@PathVariable String userName) {
+    public ResponseEntity<ResponseWrapper<?>> deleteUser(@PathVariable String userName) {
         userService.deleteByUserName(userName);
-        return ResponseEntity.ok(new ResponseWrapper("User is successfully deleted", HttpStatus.OK));
+        return ResponseEntity.ok(new ResponseWrapper<>("User is successfully deleted", HttpStatus.OK));
+    }
+
+    public ResponseEntity<ResponseWrapper<?>> getUsersFallback(Throwable t) {
+        return fallbackHandler.handleListFallback(t);
+    }
+
+    public ResponseEntity<ResponseWrapper<?>> getUsersPageFallback(Integer limit, Long after, Throwable t) {
+        return fallbackHandler.handleListFallback(t);
     }
 
-    public ResponseEntity<ResponseWrapper> getUsersFallback(Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> batchLookupFallback(BatchLookupDTO lookup, Throwable t) {
         return fallbackHandler.handleListFallback(t);
     }
 
-    public ResponseEntity<ResponseWrapper> getUserByUserNameFallback(String userName, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> getUserByUserNameFallback(String userName, Throwable t) {
         return fallbackHandler.handleSingleUserFallback(userName, t);
     }
 
-    public ResponseEntity<ResponseWrapper> createUpdateFallback(UserDTO user, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> createUpdateFallback(UserDTO user, Throwable t) {
         return fallbackHandler.handleUserModificationFallback(user, t);
     }
 
-    public ResponseEntity<ResponseWrapper> deleteUserFallback(String userName, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> deleteUserFallback(String userName, Throwable t) {
         return fallbackHandler.handleUserDeletionFallback(userName, t);
     }
 }
\ No newline at end of file
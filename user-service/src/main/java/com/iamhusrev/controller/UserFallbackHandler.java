@@ -21,36 +21,36 @@ public class UserFallbackHandler {
         this.tracer = tracer;
     }
 
-    public ResponseEntity<ResponseWrapper> handleListFallback(Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> handleListFallback(Throwable t) {
         tagZipkinAsError("Failed to retrieve user list", t);
 
         return ResponseEntity
                 .status(HttpStatus.SERVICE_UNAVAILABLE)
-                .body(new ResponseWrapper("Service unavailable. Unable to retrieve users.", Collections.emptyList(), HttpStatus.SERVICE_UNAVAILABLE));
+                .body(new ResponseWrapper<>("Service unavailable. Unable to retrieve users.", Collections.emptyList(), HttpStatus.SERVICE_UNAVAILABLE));
     }
 
-    public ResponseEntity<ResponseWrapper> handleSingleUserFallback(String username, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> handleSingleUserFallback(String username, Throwable t) {
         tagZipkinAsError("Failed to retrieve user: " + username, t);
 
         return ResponseEntity
                 .status(HttpStatus.SERVICE_UNAVAILABLE)
-                .body(new ResponseWrapper("Service unavailable. User details not found.", HttpStatus.SERVICE_UNAVAILABLE));
+                .body(new ResponseWrapper<>("Service unavailable. User details not found.", HttpStatus.SERVICE_UNAVAILABLE));
     }
 
-    public ResponseEntity<ResponseWrapper> handleUserModificationFallback(UserDTO user, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> handleUserModificationFallback(UserDTO user, Throwable t) {
         tagZipkinAsError("Failed to create/update user", t);
 
         return ResponseEntity
                 .status(HttpStatus.SERVICE_UNAVAILABLE)
-                .body(new ResponseWrapper("Service busy. User operation failed.", HttpStatus.SERVICE_UNAVAILABLE));
+                .body(new ResponseWrapper<>("Service busy. User operation failed.", HttpStatus.SERVICE_UNAVAILABLE));
     }
 
-    public ResponseEntity<ResponseWrapper> handleUserDeletionFallback(String username, Throwable t) {
+    public ResponseEntity<ResponseWrapper<?>> handleUserDeletionFallback(String username, Throwable t) {
         tagZipkinAsError("Failed to delete user: " + username, t);
 
         return ResponseEntity
                 .status(HttpStatus.SERVICE_UNAVAILABLE)
-                .body(new ResponseWrapper("Service unavailable. Could not delete user.", HttpStatus.SERVICE_UNAVAILABLE));
+                .body(new ResponseWrapper<>("Service unavailable. Could not delete user.", HttpStatus.SERVICE_UNAVAILABLE));
     }
 
 
@@ -1,19 +1,45 @@
 package com.iamhusrev.repository;
 
+import com.iamhusrev.dto.UserDTO;
 import com.iamhusrev.entity.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import jakarta.transaction.Transactional;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface UserRepository extends JpaRepository<User,Long> {
 
+    String USER_DTO_SELECT = "SELECT new com.iamhusrev.dto.UserDTO(u.id, u.firstName, u.lastName, u.userName, " +
+            "u.enabled, u.phone, u.gender, r.id, r.description) " +
+            "FROM User u LEFT JOIN u.role r ";
+
+    @EntityGraph(User.GRAPH_DETAILS)
     User findByUserName(String username);
 
     @Transactional
     void deleteByUserName(String username);
 
+    @EntityGraph(User.GRAPH_DETAILS)
     List<User> findAllByRoleDescriptionIgnoreCase(String description);
+
+    @Query(USER_DTO_SELECT + "WHERE u.userName = ?1")
+    UserDTO findUserDTOByUserName(String username);
+
+    @Query(USER_DTO_SELECT + "WHERE u.userName IN ?1")
+    List<UserDTO> findUserDTOsByUserNameIn(Collection<String> usernames);
+
+    @Query(USER_DTO_SELECT + "WHERE u.id IN ?1")
+    List<UserDTO> findUserDTOsByIdIn(Collection<Long> ids);
+
+    @Query(USER_DTO_SELECT + "ORDER BY u.firstName")
+    List<UserDTO> findUserDTOsOrderByFirstName(Limit limit);
+
+    @Query(USER_DTO_SELECT + "WHERE u.id > ?1 ORDER BY u.id")
+    List<UserDTO> findUserDTOsAfter(Long id, Limit limit);
 }
@@ -1,21 +1,25 @@
 package com.iamhusrev.service;
 
+import com.iamhusrev.dto.BatchLookupDTO;
+import com.iamhusrev.dto.CursorPageDTO;
 import com.iamhusrev.dto.UserDTO;
 import com.iamhusrev.entity.User;
 import com.iamhusrev.event.EventPublisher;
 import com.iamhusrev.event.UserEvent;
 import com.iamhusrev.exception.UserServiceException;
 import com.iamhusrev.repository.UserRepository;
+import com.iamhusrev.security.TenantContext;
 import com.iamhusrev.util.MapperUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.file.AccessDeniedException;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -29,16 +33,29 @@ public class UserService {
 
 
     public List<UserDTO> listAllUsers() {
-        List<User> list = userRepository.findAll(Sort.by("firstName"));
-        return list.stream().map(obj -> mapperUtil.convert(obj, new UserDTO())).collect(Collectors.toList());
+        return userRepository.findUserDTOsOrderByFirstName(Limit.of(CursorPageDTO.UNPAGED_LIMIT));
+    }
+
+    public CursorPageDTO<UserDTO> listUsersPage(Integer limit, Long after) {
+        int pageSize = CursorPageDTO.resolveLimit(limit);
+        List<UserDTO> list = userRepository.findUserDTOsAfter(CursorPageDTO.resolveCursor(after), Limit.of(pageSize + 1));
+        return CursorPageDTO.of(list, pageSize, UserDTO::getId);
     }
 
     public UserDTO findByUserName(String username) throws AccessDeniedException {
-        User user = userRepository.findByUserName(username);
-        if (user == null) {
-            return null;
+        return userRepository.findUserDTOByUserName(username);
+    }
+
+    // One query per key type; a user matched by both id and user name is returned once.
+    public List<UserDTO> findAll(BatchLookupDTO lookup) {
+        Map<Long, UserDTO> users = new LinkedHashMap<>();
+        if (lookup.hasIds()) {
+            userRepository.findUserDTOsByIdIn(lookup.getIds()).forEach(user -> users.put(user.getId(), user));
+        }
+        if (lookup.hasKeys()) {
+            userRepository.findUserDTOsByUserNameIn(lookup.getKeys()).forEach(user -> users.putIfAbsent(user.getId(), user));
         }
-        return mapperUtil.convert(user, new UserDTO());
+        return List.copyOf(users.values());
     }
 
     @Transactional
@@ -58,7 +75,7 @@ public class UserService {
 
         User save = userRepository.save(user);
 
-        eventPublisher.publish(new UserEvent("user.created", save.getId(), save.getUserName(),
+        eventPublisher.publish(new UserEvent("user.created", TenantContext.getOrganizationId(), save.getId(), save.getUserName(),
                 save.getFirstName(), save.getLastName()));
 
         return mapperUtil.convert(save, new UserDTO());
@@ -85,7 +102,7 @@ public class UserService {
         //save updated user
         userRepository.save(convertedUser);
 
-        eventPublisher.publish(new UserEvent("user.updated", convertedUser.getId(), convertedUser.getUserName(),
+        eventPublisher.publish(new UserEvent("user.updated", TenantContext.getOrganizationId(), convertedUser.getId(), convertedUser.getUserName(),
                 convertedUser.getFirstName(), convertedUser.getLastName()));
 
         return findByUserName(dto.getUserName());
@@ -109,7 +126,7 @@ public class UserService {
     public void deleteByUserName(String username) {
         userRepository.deleteByUserName(username);
 
-        eventPublisher.publish(new UserEvent("user.deleted", null, username, null, null));
+        eventPublisher.publish(new UserEvent("user.deleted", TenantContext.getOrganizationId(), null, username, null, null));
     }
 
 
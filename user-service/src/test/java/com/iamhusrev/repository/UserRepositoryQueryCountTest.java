@@ -0,0 +1,84 @@
+package com.iamhusrev.repository;
+
+import com.iamhusrev.entity.Role;
+import com.iamhusrev.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static com.iamhusrev.util.QueryCountInspector.statements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * User lists load the role in one statement, however many users match.
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.iamhusrev.util.QueryCountInspector"
+})
+class UserRepositoryQueryCountTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Role managerRole = entityManager.persist(new Role("Manager"));
+        Role employeeRole = entityManager.persist(new Role("Employee"));
+        entityManager.persist(user("manager1", managerRole));
+        entityManager.persist(user("manager2", managerRole));
+        entityManager.persist(user("employee1", employeeRole));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findAllByRoleDescriptionLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> userRepository.findAllByRoleDescriptionIgnoreCase("manager"));
+    }
+
+    @Test
+    void findByUserNameLoadsTheGraphInOneStatement() {
+        assertSingleStatement(() -> List.of(userRepository.findByUserName("employee1")));
+    }
+
+    @Test
+    void userDTOListsAreOneStatement() {
+        assertThat(statements(() -> userRepository.findUserDTOsAfter(0L, Limit.of(10)))).isEqualTo(1);
+        assertThat(statements(() -> userRepository.findUserDTOsOrderByFirstName(Limit.of(10)))).isEqualTo(1);
+        assertThat(statements(() -> userRepository.findUserDTOsByUserNameIn(Set.of("manager1", "employee1")))).isEqualTo(1);
+    }
+
+    private static void assertSingleStatement(Supplier<List<User>> query) {
+        assertThat(statements(() -> assertThat(query.get()).isNotEmpty()
+                .allSatisfy(user -> user.getRole().getDescription())))
+                .as("SQL statements").isEqualTo(1);
+    }
+
+    private static User user(String userName, Role role) {
+        User user = new User();
+        user.setUserName(userName);
+        user.setFirstName(userName);
+        user.setRole(role);
+        return user;
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage
+    @EntityScan(basePackageClasses = User.class)
+    static class TestConfig {
+    }
+}